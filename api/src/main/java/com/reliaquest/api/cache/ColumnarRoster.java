@@ -0,0 +1,527 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The roster laid out as one primitive-specialized column per field instead of one {@code Employee} per row.
+ *
+ * <ul>
+ *   <li>IDs in canonical UUID form are packed into two longs; anything else (or a missing ID) is kept as a
+ *       string, in a column that is only allocated once such an ID turns up.</li>
+ *   <li>Salaries and ages are {@code int} columns, with {@link #ABSENT} standing in for a missing value.</li>
+ *   <li>Titles are dictionary-encoded, since a roster only uses a handful of them.</li>
+ * </ul>
+ *
+ * <p>Aggregations and top-K run over the primitive columns; an {@link Employee} is only materialized for rows that
+ * end up in a response body.
+ *
+ * <p>Each instance is an immutable view of the first {@link #rows()} rows of its columns. Columns are allocated with
+ * spare capacity and shared between rosters: appending to the latest roster writes past its last row in place, where
+ * no older roster reads; appending to any other roster, or past the capacity, copies into columns half again as large.
+ * Removing a row only marks it, so row numbers stay stable for indexes built over the roster until it is
+ * {@link #compact() compacted}.
+ */
+public final class ColumnarRoster {
+
+    /** Stored in the salary and age columns for an employee without that field. */
+    static final int ABSENT = Integer.MIN_VALUE;
+
+    private static final int NO_TITLE = -1;
+    private static final int EMPTY_SLOT = -1;
+
+    private final int rows;
+    private final Columns columns;
+    private final BitSet unpacked;
+    private final String[] titles;
+    private final BitSet removed;
+    private final int removedRows;
+
+    /** Live row numbers, built on first use once rows are removed; a racing rebuild yields the same array. */
+    private int[] liveRows;
+
+    private ColumnarRoster(
+            int rows, Columns columns, BitSet unpacked, String[] titles, BitSet removed, int removedRows) {
+        this.rows = rows;
+        this.columns = columns;
+        this.unpacked = unpacked;
+        this.titles = titles;
+        this.removed = removed;
+        this.removedRows = removedRows;
+    }
+
+    public static ColumnarRoster of(List<Employee> employees) {
+        int rows = employees.size();
+        Columns columns = new Columns(rows, rows);
+        BitSet unpacked = new BitSet();
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> titles = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            Employee employee = employees.get(row);
+            if (!packId(employee.getId(), columns.idBits, row)) {
+                columns.otherIds()[row] = employee.getId();
+                unpacked.set(row);
+            }
+            columns.names[row] = employee.getEmployee_name();
+            columns.salaries[row] = orAbsent(employee.getEmployee_salary());
+            columns.ages[row] = orAbsent(employee.getEmployee_age());
+            columns.titleCodes[row] = encode(employee.getEmployee_title(), dictionary, titles);
+            columns.emails[row] = employee.getEmployee_email();
+            columns.indexId(row, unpacked);
+        }
+        return new ColumnarRoster(rows, columns, unpacked, titles.toArray(new String[0]), new BitSet(), 0);
+    }
+
+    /** Live employees, not counting removed rows. */
+    public int size() {
+        return rows - removedRows;
+    }
+
+    /** Rows ever appended, removed ones included; row numbers run from {@code 0} to {@code rows() - 1}. */
+    public int rows() {
+        return rows;
+    }
+
+    public boolean isRemoved(int row) {
+        return removed.get(row);
+    }
+
+    public int removedRows() {
+        return removedRows;
+    }
+
+    public String name(int row) {
+        return columns.names[row];
+    }
+
+    public String id(int row) {
+        if (unpacked.get(row)) {
+            return columns.otherIds[row];
+        }
+        return new UUID(columns.idBits[row * 2], columns.idBits[row * 2 + 1]).toString();
+    }
+
+    /** A fresh {@link Employee} for the row; callers may keep or modify it. */
+    public Employee employee(int row) {
+        Employee employee = new Employee();
+        employee.setId(id(row));
+        employee.setEmployee_name(columns.names[row]);
+        employee.setEmployee_salary(columns.salaries[row] == ABSENT ? null : columns.salaries[row]);
+        employee.setEmployee_age(columns.ages[row] == ABSENT ? null : columns.ages[row]);
+        employee.setEmployee_title(columns.titleCodes[row] == NO_TITLE ? null : titles[columns.titleCodes[row]]);
+        employee.setEmployee_email(columns.emails[row]);
+        return employee;
+    }
+
+    /** The live row holding {@code id}, or {@code -1}. When an ID occurs more than once the latest row wins. */
+    public int rowOf(String id) {
+        if (id == null) {
+            return -1;
+        }
+        long[] key = new long[2];
+        boolean packed = packId(id, key, 0);
+        int[] idSlots = columns.idSlots;
+        int mask = idSlots.length - 1;
+        int latest = -1;
+        // the slots also hold rows appended after this roster, and every earlier duplicate of an ID
+        for (int slot = hash(id, key, packed) & mask; idSlots[slot] != EMPTY_SLOT; slot = (slot + 1) & mask) {
+            int row = idSlots[slot];
+            if (row < rows && row > latest && matches(row, id, key, packed)) {
+                latest = row;
+            }
+        }
+        return latest < 0 || removed.get(latest) ? -1 : latest;
+    }
+
+    /**
+     * Live employees in roster order as a list that materializes each element on access. Meant to be handed to a
+     * serializer once, not to be read repeatedly.
+     */
+    public List<Employee> asList() {
+        return new EmployeeList();
+    }
+
+    /** The highest salary among live rows, or {@code 0} when nobody has one. */
+    public int highestSalary() {
+        int[] salaries = columns.salaries;
+        int highest = ABSENT;
+        for (int row = 0; row < rows; row++) {
+            if (salaries[row] > highest && !removed.get(row)) {
+                highest = salaries[row];
+            }
+        }
+        return highest == ABSENT ? 0 : highest;
+    }
+
+    public List<String> topEarnerNames(int limit) {
+        int[] top = topEarnerRows(limit);
+        List<String> result = new ArrayList<>(top.length);
+        for (int row : top) {
+            result.add(columns.names[row]);
+        }
+        return result;
+    }
+
+    /** Rows of the {@code limit} highest salaries, highest first; equal salaries keep roster order. */
+    public int[] topEarnerRows(int limit) {
+        return TopK.select(columns.salaries, rows, removedRows == 0 ? null : removed, limit);
+    }
+
+    int salary(int row) {
+        return columns.salaries[row];
+    }
+
+    /** This roster with {@code employee} appended as row {@link #rows()}. */
+    ColumnarRoster plus(Employee employee) {
+        return plusAll(List.of(employee));
+    }
+
+    /**
+     * This roster with {@code employees} appended in order. Writes into the shared columns when this is the latest
+     * roster over them and they have room, so only growth or a fork copies.
+     */
+    ColumnarRoster plusAll(List<Employee> employees) {
+        int total = rows + employees.size();
+        Columns target =
+                columns.claim(rows, total) ? columns : columns.copy(rows, unpacked, Math.max(8, total + (total >> 1)));
+        BitSet nextUnpacked = unpacked;
+        String[] nextTitles = titles;
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            int row = rows + i;
+            if (!packId(employee.getId(), target.idBits, row)) {
+                target.otherIds()[row] = employee.getId();
+                if (nextUnpacked == unpacked) {
+                    nextUnpacked = (BitSet) unpacked.clone();
+                }
+                nextUnpacked.set(row);
+            }
+            target.names[row] = employee.getEmployee_name();
+            target.salaries[row] = orAbsent(employee.getEmployee_salary());
+            target.ages[row] = orAbsent(employee.getEmployee_age());
+            target.titleCodes[row] = NO_TITLE;
+            if (employee.getEmployee_title() != null) {
+                int code = Arrays.asList(nextTitles).indexOf(employee.getEmployee_title());
+                if (code < 0) {
+                    code = nextTitles.length;
+                    nextTitles = Arrays.copyOf(nextTitles, code + 1);
+                    nextTitles[code] = employee.getEmployee_title();
+                }
+                target.titleCodes[row] = code;
+            }
+            target.emails[row] = employee.getEmployee_email();
+            target.indexId(row, nextUnpacked);
+        }
+        return new ColumnarRoster(total, target, nextUnpacked, nextTitles, removed, removedRows);
+    }
+
+    /** This roster with the given rows marked removed; returns {@code this} if there is nothing new to remove. */
+    ColumnarRoster minus(int... rowsToRemove) {
+        BitSet nextRemoved = null;
+        int newlyRemoved = 0;
+        for (int row : rowsToRemove) {
+            if (row >= 0 && !(nextRemoved == null ? removed : nextRemoved).get(row)) {
+                if (nextRemoved == null) {
+                    nextRemoved = (BitSet) removed.clone();
+                }
+                nextRemoved.set(row);
+                newlyRemoved++;
+            }
+        }
+        if (nextRemoved == null) {
+            return this;
+        }
+        return new ColumnarRoster(rows, columns, unpacked, titles, nextRemoved, removedRows + newlyRemoved);
+    }
+
+    /** A copy without the removed rows; live rows keep their relative order but are renumbered. */
+    ColumnarRoster compact() {
+        if (removedRows == 0) {
+            return this;
+        }
+        int[] live = liveRows();
+        int size = live.length;
+        Columns next = new Columns(size, size);
+        BitSet nextUnpacked = new BitSet();
+        for (int to = 0; to < size; to++) {
+            int from = live[to];
+            next.idBits[to * 2] = columns.idBits[from * 2];
+            next.idBits[to * 2 + 1] = columns.idBits[from * 2 + 1];
+            if (unpacked.get(from)) {
+                next.otherIds()[to] = columns.otherIds[from];
+                nextUnpacked.set(to);
+            }
+            next.names[to] = columns.names[from];
+            next.salaries[to] = columns.salaries[from];
+            next.ages[to] = columns.ages[from];
+            next.titleCodes[to] = columns.titleCodes[from];
+            next.emails[to] = columns.emails[from];
+            next.indexId(to, nextUnpacked);
+        }
+        return new ColumnarRoster(size, next, nextUnpacked, titles, new BitSet(), 0);
+    }
+
+    private int[] liveRows() {
+        int[] live = liveRows;
+        if (live == null) {
+            live = new int[size()];
+            int at = 0;
+            for (int row = removed.nextClearBit(0); row < rows; row = removed.nextClearBit(row + 1)) {
+                live[at++] = row;
+            }
+            liveRows = live;
+        }
+        return live;
+    }
+
+    private boolean matches(int row, String id, long[] key, boolean packed) {
+        if (packed == unpacked.get(row)) {
+            return false;
+        }
+        return packed
+                ? columns.idBits[row * 2] == key[0] && columns.idBits[row * 2 + 1] == key[1]
+                : id.equals(columns.otherIds[row]);
+    }
+
+    private static int hash(String id, long[] key, boolean packed) {
+        long bits = packed ? key[0] * 0x9E3779B97F4A7C15L ^ key[1] : id.hashCode() * 0x9E3779B97F4A7C15L;
+        return (int) (bits ^ (bits >>> 32));
+    }
+
+    private static int slotCount(int rows) {
+        return Integer.highestOneBit(Math.max(rows, 8) * 2 - 1) << 1;
+    }
+
+    /**
+     * Parses a lower-case canonical UUID ({@code 8-4-4-4-12} hex digits) into {@code bits[2 * row]} and
+     * {@code bits[2 * row + 1]}, so that formatting the UUID gives back the same string. Returns {@code false} for
+     * anything else, including {@code null}, which is then stored as a string.
+     */
+    private static boolean packId(String id, long[] bits, int row) {
+        if (id == null || id.length() != 36) {
+            return false;
+        }
+        long high = 0;
+        long low = 0;
+        int digits = 0;
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+                continue;
+            }
+            int value = c >= '0' && c <= '9' ? c - '0' : c >= 'a' && c <= 'f' ? c - 'a' + 10 : -1;
+            if (value < 0) {
+                return false;
+            }
+            if (digits++ < 16) {
+                high = (high << 4) | value;
+            } else {
+                low = (low << 4) | value;
+            }
+        }
+        bits[row * 2] = high;
+        bits[row * 2 + 1] = low;
+        return true;
+    }
+
+    private static int orAbsent(Integer value) {
+        return value == null ? ABSENT : value;
+    }
+
+    private static int encode(String title, Map<String, Integer> dictionary, List<String> titles) {
+        if (title == null) {
+            return NO_TITLE;
+        }
+        return dictionary.computeIfAbsent(title, value -> {
+            titles.add(value);
+            return titles.size() - 1;
+        });
+    }
+
+    private final class EmployeeList extends AbstractList<Employee> implements RandomAccess {
+
+        @Override
+        public Employee get(int index) {
+            return employee(removedRows == 0 ? index : liveRows()[index]);
+        }
+
+        @Override
+        public int size() {
+            return ColumnarRoster.this.size();
+        }
+    }
+
+    /**
+     * Column arrays plus the ID hash table over them, shared by every roster that reads them. Rows below a roster's
+     * {@code rows} are never written again; only the roster that {@link #claim claims} the rows after them writes there.
+     */
+    private static final class Columns {
+
+        final long[] idBits;
+        final String[] names;
+        final int[] salaries;
+        final int[] ages;
+        final int[] titleCodes;
+        final String[] emails;
+        /** Open-addressed, one slot per row holding an ID, duplicates included; sized for the full capacity. */
+        final int[] idSlots;
+
+        /** Allocated once the first ID that is not a canonical UUID turns up. */
+        String[] otherIds;
+
+        private final AtomicInteger claimed;
+
+        Columns(int capacity, int claimed) {
+            this.idBits = new long[capacity * 2];
+            this.names = new String[capacity];
+            this.salaries = new int[capacity];
+            this.ages = new int[capacity];
+            this.titleCodes = new int[capacity];
+            this.emails = new String[capacity];
+            this.idSlots = new int[slotCount(capacity)];
+            Arrays.fill(idSlots, EMPTY_SLOT);
+            this.claimed = new AtomicInteger(claimed);
+        }
+
+        int capacity() {
+            return names.length;
+        }
+
+        String[] otherIds() {
+            if (otherIds == null) {
+                otherIds = new String[capacity()];
+            }
+            return otherIds;
+        }
+
+        /** Whether a roster of {@code rows} rows may write rows {@code rows} to {@code total - 1} in place. */
+        boolean claim(int rows, int total) {
+            return total <= capacity() && claimed.compareAndSet(rows, total);
+        }
+
+        /** The first {@code rows} rows in new columns of {@code capacity}, claimed up to {@code rows}. */
+        Columns copy(int rows, BitSet unpacked, int capacity) {
+            Columns copy = new Columns(capacity, rows);
+            System.arraycopy(idBits, 0, copy.idBits, 0, rows * 2);
+            if (otherIds != null) {
+                System.arraycopy(otherIds, 0, copy.otherIds(), 0, rows);
+            }
+            System.arraycopy(names, 0, copy.names, 0, rows);
+            System.arraycopy(salaries, 0, copy.salaries, 0, rows);
+            System.arraycopy(ages, 0, copy.ages, 0, rows);
+            System.arraycopy(titleCodes, 0, copy.titleCodes, 0, rows);
+            System.arraycopy(emails, 0, copy.emails, 0, rows);
+            for (int row = 0; row < rows; row++) {
+                copy.indexId(row, unpacked);
+            }
+            return copy;
+        }
+
+        /** Adds {@code row} to the hash table; an earlier row with the same ID keeps its slot for older rosters. */
+        void indexId(int row, BitSet unpacked) {
+            boolean packed = !unpacked.get(row);
+            String id = packed ? null : otherIds[row];
+            if (!packed && id == null) {
+                return;
+            }
+            long[] key = {idBits[row * 2], idBits[row * 2 + 1]};
+            int mask = idSlots.length - 1;
+            int slot = hash(id, key, packed) & mask;
+            while (idSlots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            idSlots[slot] = row;
+        }
+    }
+
+    /*
+     * Bounded min-heap of rows whose root is the weakest of the current top K: the lowest salary, and on equal salary
+     * the latest row.
+     */
+    private static final class TopK {
+
+        static int[] select(int[] salaries, int rows, BitSet removed, int limit) {
+            int[] heap = new int[Math.max(0, Math.min(limit, rows))];
+            int[] keys = new int[heap.length];
+            int size = 0;
+            for (int row = 0; row < rows; row++) {
+                int salary = salaries[row];
+                if (salary == ABSENT || (removed != null && removed.get(row))) {
+                    continue;
+                }
+                if (size < heap.length) {
+                    heap[size] = row;
+                    keys[size] = salary;
+                    siftUp(heap, keys, size++);
+                } else if (size > 0 && salary > keys[0]) {
+                    heap[0] = row;
+                    keys[0] = salary;
+                    siftDown(heap, keys, size);
+                }
+            }
+            int[] ordered = Arrays.copyOf(heap, size);
+            int[] orderedKeys = Arrays.copyOf(keys, size);
+            for (int end = size - 1; end > 0; end--) {
+                swap(ordered, orderedKeys, 0, end);
+                siftDown(ordered, orderedKeys, end);
+            }
+            return ordered;
+        }
+
+        private static boolean weaker(int[] heap, int[] keys, int a, int b) {
+            return keys[a] < keys[b] || (keys[a] == keys[b] && heap[a] > heap[b]);
+        }
+
+        private static void siftUp(int[] heap, int[] keys, int at) {
+            while (at > 0) {
+                int parent = (at - 1) >>> 1;
+                if (!weaker(heap, keys, at, parent)) {
+                    return;
+                }
+                swap(heap, keys, at, parent);
+                at = parent;
+            }
+        }
+
+        private static void siftDown(int[] heap, int[] keys, int size) {
+            int at = 0;
+            while (true) {
+                int left = 2 * at + 1;
+                if (left >= size) {
+                    return;
+                }
+                int weakest = left;
+                int right = left + 1;
+                if (right < size && weaker(heap, keys, right, left)) {
+                    weakest = right;
+                }
+                if (!weaker(heap, keys, weakest, at)) {
+                    return;
+                }
+                swap(heap, keys, at, weakest);
+                at = weakest;
+            }
+        }
+
+        private static void swap(int[] heap, int[] keys, int a, int b) {
+            int row = heap[a];
+            heap[a] = heap[b];
+            heap[b] = row;
+            int key = keys[a];
+            keys[a] = keys[b];
+            keys[b] = key;
+        }
+    }
+}
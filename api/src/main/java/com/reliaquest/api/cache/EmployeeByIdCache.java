@@ -0,0 +1,84 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded per-ID cache (Caffeine W-TinyLFU with size and TTL eviction) that also acts as a single-flight layer:
+ * the first caller for an ID loads it on its own thread, and concurrent callers for the same ID wait on that one
+ * in-flight future instead of issuing their own upstream request. Failed and empty loads are not cached.
+ */
+@Component
+public class EmployeeByIdCache {
+
+    private final AsyncCache<String, Employee> cache;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public EmployeeByIdCache(
+            @Value("${employee.cache.by-id.max-size:10000}") long maxSize,
+            @Value("${employee.cache.by-id.ttl:30s}") Duration ttl) {
+        this.cache =
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).buildAsync();
+    }
+
+    public Employee get(String id, Function<String, Employee> loader) {
+        requests.increment();
+        CompletableFuture<Employee> promise = new CompletableFuture<>();
+        CompletableFuture<Employee> existing = cache.asMap().putIfAbsent(id, promise);
+        if (existing == null) {
+            loads.increment();
+            try {
+                promise.complete(loader.apply(id));
+            } catch (RuntimeException ex) {
+                promise.completeExceptionally(ex);
+                throw ex;
+            }
+            return promise.join();
+        }
+        if (existing.isDone()) {
+            hits.increment();
+        } else {
+            coalesced.increment();
+        }
+        try {
+            return existing.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /** The cached employee if one has already been loaded; never loads, never waits and never counts as a request. */
+    public Employee peek(String id) {
+        CompletableFuture<Employee> cached = cache.getIfPresent(id);
+        return cached != null && cached.isDone() && !cached.isCompletedExceptionally() ? cached.join() : null;
+    }
+
+    public void put(Employee employee) {
+        if (employee != null && employee.getId() != null) {
+            cache.put(employee.getId(), CompletableFuture.completedFuture(employee));
+        }
+    }
+
+    public void invalidate(String id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public LookupCacheStats stats() {
+        return new LookupCacheStats(requests.sum(), hits.sum(), coalesced.sum(), loads.sum());
+    }
+}
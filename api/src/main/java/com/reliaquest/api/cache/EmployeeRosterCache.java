@@ -0,0 +1,376 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.VersionedRoster;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * In-process cache of the full upstream roster.
+ *
+ * <ul>
+ *   <li>A snapshot younger than {@code ttl} is served as-is.</li>
+ *   <li>A snapshot older than {@code ttl} but within {@code ttl + maxStale} is served immediately while a single
+ *       background refresh is started (stale-while-revalidate).</li>
+ *   <li>Anything older, or no snapshot at all, blocks the caller on a load. Concurrent callers share the same
+ *       in-flight load (single-flight).</li>
+ *   <li>If that load is rejected because the upstream is rate limiting us, the last snapshot is served regardless of
+ *       age when {@code serveStaleWhenThrottled} is enabled.</li>
+ *   <li>Loads are conditional on the ETag of the snapshot held; when the upstream answers 304 the same snapshot
+ *       (roster, indexes and version) is kept and only its load time moves, so a steady-state poll transfers and
+ *       parses nothing.</li>
+ *   <li>A loader may instead answer with just the changes since that ETag; they are applied to the snapshot held, so
+ *       keeping it current costs in proportion to the change rate rather than the roster size. They are applied in
+ *       order, and the snapshot takes the ETag they lead to even when none of them changes it, which then counts as
+ *       not modified.</li>
+ *   <li>Local creates and deletes made while a load is on the wire are replayed onto what it loaded before that is
+ *       published, so a steady stream of writes cannot keep loads from landing.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class EmployeeRosterCache {
+
+    private final Duration ttl;
+    private final Duration maxStale;
+    private final int topK;
+    private final boolean serveStaleWhenThrottled;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+
+    private final AtomicReference<EmployeeSnapshot> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<EmployeeSnapshot>> inFlight = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    /*
+     * Guards replacing the current snapshot with a patched or loaded one, and the patches made while a load is in
+     * flight (null when none is), which are replayed onto its result.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<UnaryOperator<EmployeeSnapshot>> patchesDuringLoad;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleServedWhenThrottled = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder deltas = new LongAdder();
+    private final LongAdder refreshNanos = new LongAdder();
+    private final AtomicLong lastRefreshNanos = new AtomicLong();
+
+    @Autowired
+    public EmployeeRosterCache(
+            @Value("${employee.cache.ttl:5s}") Duration ttl,
+            @Value("${employee.cache.max-stale:30s}") Duration maxStale,
+            @Value("${employee.cache.top-k:10}") int topK,
+            @Value("${employee.cache.serve-stale-when-throttled:true}") boolean serveStaleWhenThrottled,
+            @Qualifier("rosterRefreshExecutor") Executor refreshExecutor) {
+        this(ttl, maxStale, topK, serveStaleWhenThrottled, refreshExecutor, Clock.systemUTC());
+    }
+
+    EmployeeRosterCache(
+            Duration ttl,
+            Duration maxStale,
+            int topK,
+            boolean serveStaleWhenThrottled,
+            Executor refreshExecutor,
+            Clock clock) {
+        this.ttl = ttl;
+        this.maxStale = maxStale;
+        this.topK = topK;
+        this.serveStaleWhenThrottled = serveStaleWhenThrottled;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    public EmployeeSnapshot get(RosterLoader loader) {
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            Duration age = Duration.between(snapshot.getLoadedAt(), clock.instant());
+            if (age.compareTo(ttl) < 0) {
+                hits.increment();
+                return snapshot;
+            }
+            if (age.compareTo(ttl.plus(maxStale)) < 0) {
+                staleHits.increment();
+                refreshAsync(loader);
+                return snapshot;
+            }
+        }
+        misses.increment();
+        try {
+            return load(loader, false).join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (snapshot != null && serveStaleWhenThrottled && isThrottled(cause)) {
+                staleServedWhenThrottled.increment();
+                log.debug("Upstream throttled; serving roster snapshot v{} past its max-stale", snapshot.getVersion());
+                return snapshot;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw ex;
+        }
+    }
+
+    private static boolean isThrottled(Throwable failure) {
+        return failure instanceof UpstreamThrottledException
+                || failure instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    /** The current snapshot if it is still within its TTL; never loads and never counts as a hit or miss. */
+    public EmployeeSnapshot getIfFresh() {
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot == null
+                || Duration.between(snapshot.getLoadedAt(), clock.instant()).compareTo(ttl) >= 0) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    /** The current snapshot whether or not it is still fresh; never loads. {@code null} before the first load. */
+    public EmployeeSnapshot peek() {
+        return current.get();
+    }
+
+    /** Employees in the current snapshot whether or not it is still fresh; {@code 0} before the first load. */
+    public int snapshotSize() {
+        EmployeeSnapshot snapshot = current.get();
+        return snapshot == null ? 0 : snapshot.size();
+    }
+
+    /** Starts (or joins) a background reload; the returned future completes with the snapshot it published. */
+    public CompletableFuture<EmployeeSnapshot> refreshAsync(RosterLoader loader) {
+        return load(loader, true);
+    }
+
+    /** Publishes a locally created employee without going back upstream, unless the snapshot already holds it. */
+    public void onCreated(Employee employee) {
+        patch(snapshot -> snapshot.plusAbsent(List.of(employee), versions.incrementAndGet()));
+    }
+
+    /** Publishes a batch of locally created employees as one new snapshot, leaving out any it already holds. */
+    public void onCreatedAll(List<Employee> employees) {
+        patch(snapshot -> snapshot.plusAbsent(employees, versions.incrementAndGet()));
+    }
+
+    /** Drops a locally deleted employee without going back upstream. */
+    public void onDeleted(String id) {
+        patch(snapshot -> snapshot.minus(id, versions.incrementAndGet()));
+    }
+
+    /**
+     * Marks the snapshot as past its max-stale, for a write whose effect on the roster is not known locally: the next
+     * read blocks on a load, which is still conditional on the snapshot's ETag, so with a change feed it costs only
+     * the changes since.
+     */
+    public void expire() {
+        patch(snapshot -> snapshot.revalidatedAt(Instant.EPOCH));
+    }
+
+    public void invalidate() {
+        lock.lock();
+        try {
+            current.set(null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public RosterCacheStats stats() {
+        return new RosterCacheStats(
+                hits.sum(),
+                staleHits.sum(),
+                misses.sum(),
+                staleServedWhenThrottled.sum(),
+                refreshes.sum(),
+                refreshFailures.sum(),
+                notModified.sum(),
+                deltas.sum(),
+                refreshNanos.sum(),
+                lastRefreshNanos.get());
+    }
+
+    /** {@code change} must be a no-op where it has already been made, as it is replayed onto loads that raced it. */
+    private void patch(UnaryOperator<EmployeeSnapshot> change) {
+        lock.lock();
+        try {
+            if (patchesDuringLoad != null) {
+                patchesDuringLoad.add(change);
+            }
+            EmployeeSnapshot snapshot = current.get();
+            if (snapshot != null) {
+                current.set(change.apply(snapshot));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CompletableFuture<EmployeeSnapshot> load(RosterLoader loader, boolean async) {
+        while (true) {
+            CompletableFuture<EmployeeSnapshot> existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+            CompletableFuture<EmployeeSnapshot> promise = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, promise)) {
+                EmployeeSnapshot base;
+                lock.lock();
+                try {
+                    base = current.get();
+                    patchesDuringLoad = new ArrayList<>();
+                } finally {
+                    lock.unlock();
+                }
+                String etag = base == null ? null : base.getEtag();
+                long start = System.nanoTime();
+                if (async) {
+                    loadAsync(loader, etag).whenComplete((roster, failure) -> {
+                        if (failure != null) {
+                            fail(promise, failure instanceof CompletionException ? failure.getCause() : failure);
+                        } else {
+                            complete(promise, roster, base, start);
+                        }
+                    });
+                } else {
+                    try {
+                        complete(promise, loader.loadIfChanged(etag), base, start);
+                    } catch (RuntimeException ex) {
+                        fail(promise, ex);
+                    }
+                }
+                return promise;
+            }
+        }
+    }
+
+    private CompletableFuture<VersionedRoster> loadAsync(RosterLoader loader, String etag) {
+        try {
+            return loader.loadIfChangedAsync(etag, refreshExecutor);
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private void complete(
+            CompletableFuture<EmployeeSnapshot> promise, VersionedRoster roster, EmployeeSnapshot base, long start) {
+        try {
+            EmployeeSnapshot published;
+            if ((roster.isNotModified() || roster.isChanges()) && base == null) {
+                throw new IllegalStateException("Upstream answered an unconditional roster load with no roster");
+            }
+            if (roster.isNotModified()) {
+                notModified.increment();
+                published = revalidate(base, base.revalidatedAt(clock.instant()));
+            } else if (roster.isChanges()) {
+                EmployeeSnapshot applied =
+                        base.applied(roster.changes(), roster.etag(), clock.instant(), versions.incrementAndGet());
+                if (applied.getVersion() == base.getVersion()) {
+                    notModified.increment();
+                    published = revalidate(base, applied);
+                } else {
+                    deltas.increment();
+                    published = publish(applied);
+                }
+            } else {
+                EmployeeSnapshot loaded = EmployeeSnapshot.of(
+                        versions.incrementAndGet(), roster.employees(), roster.etag(), clock.instant(), topK);
+                published = publish(loaded);
+            }
+            recordRefresh(start);
+            log.debug("Loaded roster snapshot v{} with {} employees", published.getVersion(), published.size());
+            inFlight.compareAndSet(promise, null);
+            promise.complete(published);
+        } catch (RuntimeException ex) {
+            fail(promise, ex);
+        }
+    }
+
+    private void fail(CompletableFuture<EmployeeSnapshot> promise, Throwable failure) {
+        refreshFailures.increment();
+        log.warn("Failed to refresh roster snapshot: {}", failure.getMessage());
+        lock.lock();
+        try {
+            patchesDuringLoad = null;
+        } finally {
+            lock.unlock();
+        }
+        inFlight.compareAndSet(promise, null);
+        promise.completeExceptionally(failure);
+    }
+
+    /*
+     * A create/delete that landed while the load was on the wire may or may not be reflected in the response, so the
+     * local patches made meanwhile are replayed onto it; each is a no-op where the response already has it.
+     */
+    private EmployeeSnapshot publish(EmployeeSnapshot loaded) {
+        lock.lock();
+        try {
+            EmployeeSnapshot published = replayPatchesOnto(loaded);
+            current.set(published);
+            return published;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * The upstream roster is unchanged since `base` was loaded, and `revalidated` is `base` kept for another TTL (under
+     * the feed's new ETag, if there is one). It is published with the local patches made since replayed onto it, as
+     * in publish, unless the cache was invalidated in the meantime.
+     */
+    private EmployeeSnapshot revalidate(EmployeeSnapshot base, EmployeeSnapshot revalidated) {
+        lock.lock();
+        try {
+            if (current.get() == null) {
+                patchesDuringLoad = null;
+                return base;
+            }
+            EmployeeSnapshot published = replayPatchesOnto(revalidated);
+            current.set(published);
+            return published;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private EmployeeSnapshot replayPatchesOnto(EmployeeSnapshot snapshot) {
+        List<UnaryOperator<EmployeeSnapshot>> patches = patchesDuringLoad;
+        patchesDuringLoad = null;
+        if (patches != null) {
+            for (UnaryOperator<EmployeeSnapshot> patch : patches) {
+                snapshot = patch.apply(snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    private void recordRefresh(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        refreshes.increment();
+        refreshNanos.add(elapsed);
+        lastRefreshNanos.set(elapsed);
+    }
+}
@@ -0,0 +1,224 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Immutable, versioned view of the upstream roster. A new instance is published for every reload or local patch, so
+ * readers never observe a partially applied change.
+ *
+ * <p>The roster is held as a {@link ColumnarRoster} built once per load; lookups, aggregations and searches run over
+ * its columns and only the employees that are returned get materialized.
+ */
+@Getter
+public final class EmployeeSnapshot {
+
+    private static final int MIN_COMPACTION = 1024;
+
+    private final long version;
+    private final ColumnarRoster roster;
+    private final String etag;
+    private final Instant loadedAt;
+    private final SalaryIndex salaryIndex;
+    private final NameIndex nameIndex;
+
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentHashMap<Object, Object> rendered;
+
+    private EmployeeSnapshot(
+            long version,
+            ColumnarRoster roster,
+            String etag,
+            Instant loadedAt,
+            SalaryIndex salaryIndex,
+            NameIndex nameIndex) {
+        this(version, roster, etag, loadedAt, salaryIndex, nameIndex, new ConcurrentHashMap<>());
+    }
+
+    private EmployeeSnapshot(
+            long version,
+            ColumnarRoster roster,
+            String etag,
+            Instant loadedAt,
+            SalaryIndex salaryIndex,
+            NameIndex nameIndex,
+            ConcurrentHashMap<Object, Object> rendered) {
+        this.version = version;
+        this.roster = roster;
+        this.etag = etag;
+        this.loadedAt = loadedAt;
+        this.salaryIndex = salaryIndex;
+        this.nameIndex = nameIndex;
+        this.rendered = rendered;
+    }
+
+    public static EmployeeSnapshot of(long version, List<Employee> employees, Instant loadedAt, int topK) {
+        return of(version, employees, null, loadedAt, topK);
+    }
+
+    /** A snapshot of a roster the upstream served with {@code etag}, which later loads send back as If-None-Match. */
+    public static EmployeeSnapshot of(long version, List<Employee> employees, String etag, Instant loadedAt, int topK) {
+        ColumnarRoster roster = ColumnarRoster.of(employees);
+        return new EmployeeSnapshot(
+                version, roster, etag, loadedAt, SalaryIndex.build(roster, topK), NameIndex.build(roster));
+    }
+
+    /** The same roster, version, indexes and rendered values, confirmed unchanged by the upstream at {@code at}. */
+    EmployeeSnapshot revalidatedAt(Instant at) {
+        return new EmployeeSnapshot(version, roster, etag, at, salaryIndex, nameIndex, rendered);
+    }
+
+    /**
+     * {@code render} applied to this snapshot, computed by the first caller for {@code key} while concurrent callers
+     * wait for it, then shared. Meant for values derived from the whole roster, such as serialized response bodies:
+     * they are dropped with the snapshot, so a reader can never pair one with a different roster version.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T rendered(Object key, Function<EmployeeSnapshot, T> render) {
+        return (T) rendered.computeIfAbsent(key, ignored -> render.apply(this));
+    }
+
+    /** This roster served with {@code newEtag}: the same version and content, now known by the upstream's new tag. */
+    EmployeeSnapshot retagged(String newEtag, Instant at) {
+        return new EmployeeSnapshot(version, roster, newEtag, at, salaryIndex, nameIndex, rendered);
+    }
+
+    /**
+     * This roster with upstream changes applied in order, served with {@code newEtag} at {@code at}. Replays are
+     * no-ops: an employee already held is not added twice and an ID not held is not deleted, so changes this snapshot
+     * was already patched with locally, or that a full load raced past, apply cleanly. When none of them changes the
+     * roster it is only {@link #retagged}.
+     */
+    EmployeeSnapshot applied(List<EmployeeChange> changes, String newEtag, Instant at, long newVersion) {
+        EmployeeSnapshot patched = this;
+        List<Employee> created = new ArrayList<>();
+        Set<String> createdIds = new HashSet<>();
+        List<String> deletedIds = new ArrayList<>();
+        for (EmployeeChange change : changes) {
+            Employee employee = change.getEmployee();
+            if (EmployeeChange.CREATED.equals(change.getType())) {
+                if (!deletedIds.isEmpty()) {
+                    patched = patched.minusAll(deletedIds, newVersion);
+                    deletedIds.clear();
+                }
+                if (patched.roster.rowOf(employee.getId()) < 0 && createdIds.add(employee.getId())) {
+                    created.add(employee);
+                }
+            } else if (EmployeeChange.DELETED.equals(change.getType())) {
+                if (!created.isEmpty()) {
+                    patched = patched.plusAll(created, newVersion);
+                    created.clear();
+                    createdIds.clear();
+                }
+                deletedIds.add(employee.getId());
+            }
+        }
+        if (!deletedIds.isEmpty()) {
+            patched = patched.minusAll(deletedIds, newVersion);
+        }
+        if (!created.isEmpty()) {
+            patched = patched.plusAll(created, newVersion);
+        }
+        if (patched == this) {
+            return retagged(newEtag, at);
+        }
+        return new EmployeeSnapshot(newVersion, patched.roster, newEtag, at, patched.salaryIndex, patched.nameIndex);
+    }
+
+    /** Every employee in roster order, materialized as the list is read. */
+    public List<Employee> getEmployees() {
+        return roster.asList();
+    }
+
+    public Employee findById(String id) {
+        int row = roster.rowOf(id);
+        return row < 0 ? null : roster.employee(row);
+    }
+
+    /** The name the employee was created with, read straight from the name column; {@code null} if not in this roster. */
+    public String nameOf(String id) {
+        int row = roster.rowOf(id);
+        return row < 0 ? null : roster.name(row);
+    }
+
+    public int size() {
+        return roster.size();
+    }
+
+    public int highestSalary() {
+        return salaryIndex.highestSalary();
+    }
+
+    /** Names of the {@code limit} highest earners; limits beyond the indexed K are selected from the salary column. */
+    public List<String> topEarnerNames(int limit) {
+        if (limit <= salaryIndex.capacity()) {
+            return salaryIndex.topEarnerNames(limit);
+        }
+        return roster.topEarnerNames(limit);
+    }
+
+    public List<Employee> searchByName(String fragment, int offset, int limit) {
+        return nameIndex.search(fragment, offset, limit);
+    }
+
+    /** {@link #plusAll} of just the employees not held yet, so adding one that is already here is a no-op. */
+    EmployeeSnapshot plusAbsent(List<Employee> employees, long newVersion) {
+        List<Employee> absent = new ArrayList<>(employees.size());
+        Set<String> absentIds = new HashSet<>();
+        for (Employee employee : employees) {
+            if (roster.rowOf(employee.getId()) < 0 && absentIds.add(employee.getId())) {
+                absent.add(employee);
+            }
+        }
+        return absent.isEmpty() ? this : plusAll(absent, newVersion);
+    }
+
+    EmployeeSnapshot plusAll(List<Employee> employees, long newVersion) {
+        ColumnarRoster patched = roster.plusAll(employees);
+        SalaryIndex patchedSalaries = salaryIndex;
+        for (Employee employee : employees) {
+            patchedSalaries = patchedSalaries.plus(employee);
+        }
+        return new EmployeeSnapshot(newVersion, patched, etag, loadedAt, patchedSalaries, nameIndex.over(patched));
+    }
+
+    EmployeeSnapshot minus(String id, long newVersion) {
+        return minusAll(List.of(id), newVersion);
+    }
+
+    /** Removed rows are only marked until they make up a sixteenth of the roster, then the roster is compacted. */
+    EmployeeSnapshot minusAll(List<String> ids, long newVersion) {
+        int[] rows = new int[ids.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = roster.rowOf(ids.get(i));
+        }
+        ColumnarRoster patched = roster.minus(rows);
+        if (patched == roster) {
+            return this;
+        }
+        boolean compact = patched.removedRows() > Math.max(MIN_COMPACTION, patched.rows() / 16);
+        if (compact) {
+            patched = patched.compact();
+        }
+        SalaryIndex patchedSalaries = salaryIndex;
+        for (String id : ids) {
+            patchedSalaries = patchedSalaries.minus(id, patched);
+        }
+        return new EmployeeSnapshot(
+                newVersion,
+                patched,
+                etag,
+                loadedAt,
+                patchedSalaries,
+                compact ? NameIndex.build(patched) : nameIndex.over(patched));
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.cache;
+
+/**
+ * @param requests lookups served by the cache
+ * @param hits lookups answered from a completed entry
+ * @param coalesced lookups that joined another caller's in-flight load
+ * @param loads lookups that went upstream
+ */
+public record LookupCacheStats(long requests, long hits, long coalesced, long loads) {
+
+    public double hitRate() {
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    /** Share of cache misses that were absorbed by an in-flight load rather than sent upstream. */
+    public double dedupRatio() {
+        long misses = coalesced + loads;
+        return misses == 0 ? 0.0 : (double) coalesced / misses;
+    }
+}
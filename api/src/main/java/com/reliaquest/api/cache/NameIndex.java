@@ -0,0 +1,227 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Case-folded trigram inverted index over {@code employee_name}.
+ *
+ * <p>Substring queries of three or more characters intersect the posting lists of the query's trigrams and only
+ * verify the surviving candidates; shorter queries fall back to a scan of the pre-folded names. Neither path
+ * allocates per employee, and only the matches that make it onto the requested page are materialized from the
+ * {@link ColumnarRoster}.
+ *
+ * <p>Instances are immutable. Postings refer to roster rows, so rows appended to the roster after the build are
+ * scanned as an unindexed tail, rows it has since marked removed are skipped, and the index is rebuilt once that tail
+ * grows past a fraction of the base.
+ */
+public final class NameIndex {
+
+    private static final int GRAM = 3;
+    private static final int MIN_REBUILD_OVERLAY = 1024;
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final ColumnarRoster roster;
+    private final String[] folded;
+    private final Map<Long, int[]> postings;
+    private final List<String> appendedFolded;
+
+    private NameIndex(ColumnarRoster roster, String[] folded, Map<Long, int[]> postings, List<String> appendedFolded) {
+        this.roster = roster;
+        this.folded = folded;
+        this.postings = postings;
+        this.appendedFolded = appendedFolded;
+    }
+
+    public static NameIndex build(List<Employee> employees) {
+        return build(ColumnarRoster.of(employees));
+    }
+
+    public static NameIndex build(ColumnarRoster roster) {
+        String[] folded = new String[roster.rows()];
+        Map<Long, IntList> building = new HashMap<>();
+        for (int position = 0; position < folded.length; position++) {
+            String name = fold(roster.name(position));
+            folded[position] = name;
+            for (int i = 0; i + GRAM <= name.length(); i++) {
+                IntList list = building.computeIfAbsent(gram(name, i), ignored -> new IntList());
+                if (list.lastOrMinusOne() != position) {
+                    list.add(position);
+                }
+            }
+        }
+        Map<Long, int[]> postings = new HashMap<>(building.size() * 4 / 3 + 1);
+        building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+        return new NameIndex(roster, folded, postings, List.of());
+    }
+
+    static String fold(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    public List<Employee> search(String fragment) {
+        return search(fragment, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns matches in roster order, skipping the first {@code offset} and stopping after {@code limit}, so a page
+     * deep into a large result never materializes the earlier matches.
+     */
+    public List<Employee> search(String fragment, int offset, int limit) {
+        String query = fold(fragment);
+        Collector collector = new Collector(roster, offset, limit);
+        if (query.length() < GRAM) {
+            scanBase(query, collector);
+        } else {
+            probeBase(query, collector);
+        }
+        for (int i = 0; i < appendedFolded.size() && !collector.full(); i++) {
+            int position = folded.length + i;
+            if (!roster.isRemoved(position) && appendedFolded.get(i).contains(query)) {
+                collector.accept(position);
+            }
+        }
+        return collector.results;
+    }
+
+    /**
+     * This index moved onto {@code next}, which must be the indexed roster with rows appended or removed but not
+     * {@linkplain ColumnarRoster#compact() compacted}.
+     */
+    NameIndex over(ColumnarRoster next) {
+        int appended = next.rows() - folded.length;
+        if (appended > rebuildThreshold()) {
+            return build(next);
+        }
+        if (appended == appendedFolded.size()) {
+            return new NameIndex(next, folded, postings, appendedFolded);
+        }
+        List<String> nextFolded = new ArrayList<>(appended);
+        nextFolded.addAll(appendedFolded);
+        for (int position = folded.length + appendedFolded.size(); position < next.rows(); position++) {
+            nextFolded.add(fold(next.name(position)));
+        }
+        return new NameIndex(next, folded, postings, nextFolded);
+    }
+
+    private int rebuildThreshold() {
+        return Math.max(MIN_REBUILD_OVERLAY, folded.length / 16);
+    }
+
+    private void scanBase(String query, Collector collector) {
+        for (int position = 0; position < folded.length && !collector.full(); position++) {
+            if (!roster.isRemoved(position) && folded[position].contains(query)) {
+                collector.accept(position);
+            }
+        }
+    }
+
+    private void probeBase(String query, Collector collector) {
+        int grams = query.length() - GRAM + 1;
+        int[][] lists = new int[grams][];
+        for (int i = 0; i < grams; i++) {
+            int[] list = postings.getOrDefault(gram(query, i), NO_POSTINGS);
+            if (list.length == 0) {
+                return;
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] cursors = new int[grams];
+        int[] driver = lists[0];
+        candidates:
+        for (int d = 0; d < driver.length && !collector.full(); d++) {
+            int position = driver[d];
+            for (int l = 1; l < grams; l++) {
+                int[] list = lists[l];
+                int at = advance(list, cursors[l], position);
+                cursors[l] = at;
+                if (at == list.length) {
+                    return;
+                }
+                if (list[at] != position) {
+                    continue candidates;
+                }
+            }
+            if (!roster.isRemoved(position) && folded[position].contains(query)) {
+                collector.accept(position);
+            }
+        }
+    }
+
+    /** Galloping search for the first index at or after {@code from} whose value is {@code >= target}. */
+    private static int advance(int[] list, int from, int target) {
+        int bound = 1;
+        while (from + bound < list.length && list[from + bound] < target) {
+            bound <<= 1;
+        }
+        int low = from + (bound >> 1);
+        int high = Math.min(from + bound, list.length - 1);
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (list[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static long gram(String folded, int at) {
+        return ((long) folded.charAt(at) << 32) | ((long) folded.charAt(at + 1) << 16) | folded.charAt(at + 2);
+    }
+
+    private static final class Collector {
+
+        private final ColumnarRoster roster;
+        private final List<Employee> results = new ArrayList<>();
+        private int toSkip;
+        private final int limit;
+
+        Collector(ColumnarRoster roster, int offset, int limit) {
+            this.roster = roster;
+            this.toSkip = Math.max(0, offset);
+            this.limit = limit;
+        }
+
+        boolean full() {
+            return results.size() >= limit;
+        }
+
+        void accept(int position) {
+            if (toSkip > 0) {
+                toSkip--;
+            } else {
+                results.add(roster.employee(position));
+            }
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        int lastOrMinusOne() {
+            return size == 0 ? -1 : values[size - 1];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.cache;
+
+public record RosterCacheStats(
+        long hits,
+        long staleHits,
+        long misses,
+        long staleServedWhenThrottled,
+        long refreshes,
+        long refreshFailures,
+        long notModified,
+        long deltas,
+        long totalRefreshNanos,
+        long lastRefreshNanos) {
+
+    public double hitRate() {
+        long requests = hits + staleHits + misses;
+        return requests == 0 ? 0.0 : (double) (hits + staleHits) / requests;
+    }
+
+    public double averageRefreshMillis() {
+        return refreshes == 0 ? 0.0 : totalRefreshNanos / 1_000_000.0 / refreshes;
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.VersionedRoster;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Source of full roster loads for {@link EmployeeRosterCache}. Blocking loads serve cache misses on the caller's
+ * thread; background refreshes use {@link #loadAsync(Executor)}, which implementations backed by a non-blocking
+ * client should override so no thread waits on the upstream.
+ *
+ * <p>The cache always loads through the conditional forms, passing the ETag of the snapshot it holds. Loaders backed
+ * by an upstream that supports {@code If-None-Match} override them to answer {@link VersionedRoster#notModified()},
+ * and those backed by a change feed to answer {@link VersionedRoster#changes} since that ETag; the defaults ignore
+ * the ETag and load in full.
+ */
+@FunctionalInterface
+public interface RosterLoader {
+
+    List<Employee> load();
+
+    default CompletableFuture<List<Employee>> loadAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::load, executor);
+    }
+
+    /** Loads the roster unless it still matches {@code etag}; a {@code null} ETag always loads. */
+    default VersionedRoster loadIfChanged(String etag) {
+        return new VersionedRoster(load(), null);
+    }
+
+    default CompletableFuture<VersionedRoster> loadIfChangedAsync(String etag, Executor executor) {
+        return loadAsync(executor).thenApply(employees -> new VersionedRoster(employees, null));
+    }
+}
@@ -0,0 +1,116 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Top-K earners of a roster, kept in descending salary order (ties keep roster order) so the highest salary and the
+ * top-N names are answered in O(1)/O(N) without touching the rest of the roster.
+ *
+ * <p>Instances are immutable. Adding an employee is O(K); removing one that is not among the top K is free, and
+ * removing one that is falls back to a single O(n log K) rebuild from the roster's salary column.
+ */
+public final class SalaryIndex {
+
+    private final int capacity;
+    private final int[] salaries;
+    private final Employee[] earners;
+    private final boolean complete;
+
+    private SalaryIndex(int capacity, int[] salaries, Employee[] earners, boolean complete) {
+        this.capacity = capacity;
+        this.salaries = salaries;
+        this.earners = earners;
+        this.complete = complete;
+    }
+
+    public static SalaryIndex build(List<Employee> employees, int capacity) {
+        return build(ColumnarRoster.of(employees), capacity);
+    }
+
+    public static SalaryIndex build(ColumnarRoster roster, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Salary index capacity must be positive, was " + capacity);
+        }
+        // One row past the capacity tells whether every salaried employee fit.
+        int[] rows = roster.topEarnerRows((int) Math.min(Integer.MAX_VALUE, capacity + 1L));
+        int size = Math.min(rows.length, capacity);
+        int[] salaries = new int[size];
+        Employee[] earners = new Employee[size];
+        for (int i = 0; i < size; i++) {
+            salaries[i] = roster.salary(rows[i]);
+            earners[i] = roster.employee(rows[i]);
+        }
+        return new SalaryIndex(capacity, salaries, earners, rows.length <= capacity);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int highestSalary() {
+        return salaries.length == 0 ? 0 : salaries[0];
+    }
+
+    public List<String> topEarnerNames(int limit) {
+        int count = Math.min(limit, earners.length);
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(earners[i].getEmployee_name());
+        }
+        return names;
+    }
+
+    SalaryIndex plus(Employee employee) {
+        if (employee.getEmployee_salary() == null) {
+            return this;
+        }
+        int salary = employee.getEmployee_salary();
+        int size = salaries.length;
+        if (size == capacity && salary <= salaries[size - 1]) {
+            return new SalaryIndex(capacity, salaries, earners, false);
+        }
+        int at = size;
+        while (at > 0 && salaries[at - 1] < salary) {
+            at--;
+        }
+        int newSize = Math.min(size + 1, capacity);
+        int[] newSalaries = new int[newSize];
+        Employee[] newEarners = new Employee[newSize];
+        System.arraycopy(salaries, 0, newSalaries, 0, at);
+        System.arraycopy(earners, 0, newEarners, 0, at);
+        newSalaries[at] = salary;
+        newEarners[at] = employee;
+        System.arraycopy(salaries, at, newSalaries, at + 1, newSize - at - 1);
+        System.arraycopy(earners, at, newEarners, at + 1, newSize - at - 1);
+        return new SalaryIndex(capacity, newSalaries, newEarners, complete && size < capacity);
+    }
+
+    SalaryIndex minus(String id, ColumnarRoster remaining) {
+        int at = indexOf(id);
+        if (at < 0) {
+            return this;
+        }
+        if (!complete) {
+            return build(remaining, capacity);
+        }
+        int[] newSalaries = new int[salaries.length - 1];
+        Employee[] newEarners = new Employee[earners.length - 1];
+        System.arraycopy(salaries, 0, newSalaries, 0, at);
+        System.arraycopy(earners, 0, newEarners, 0, at);
+        System.arraycopy(salaries, at + 1, newSalaries, at, newSalaries.length - at);
+        System.arraycopy(earners, at + 1, newEarners, at, newEarners.length - at);
+        return new SalaryIndex(capacity, newSalaries, newEarners, true);
+    }
+
+    private int indexOf(String id) {
+        for (int i = 0; i < earners.length; i++) {
+            if (Objects.equals(earners[i].getId(), id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
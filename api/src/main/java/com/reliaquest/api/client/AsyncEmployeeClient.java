@@ -0,0 +1,317 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.VersionedRoster;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Non-blocking counterpart of the {@code RestTemplate} calls in {@code EmployeeService}. Requests share the pooled
+ * {@link HttpClient} and the {@link UpstreamRateLimiter}, and no thread is held while waiting on the upstream or the
+ * limiter; failures surface as the same {@link RestClientResponseException} subtypes {@code RestTemplate} would
+ * throw.
+ */
+@Slf4j
+@Component
+public class AsyncEmployeeClient {
+
+    /** Response header the upstream uses to hand out the cursor of the next roster page. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<EmployeeChange>>> CHANGES = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<Employee>> SINGLE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<ApiResponse<Employee>>>> CREATED = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<ApiResponse<Boolean>>>> DELETED = new TypeReference<>() {};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Duration readTimeout;
+    private final UpstreamRateLimiter rateLimiter;
+    private final UpstreamRetryPolicy retryPolicy;
+    private final int pageSize;
+    private final boolean changeFeed;
+    private final boolean compression;
+    private final UpstreamMetrics metrics;
+
+    public AsyncEmployeeClient(
+            HttpClient upstreamHttpClient,
+            ObjectMapper objectMapper,
+            @Value("${employee.service.base-url}") String baseUrl,
+            @Value("${employee.client.read-timeout:5s}") Duration readTimeout,
+            UpstreamRateLimiter rateLimiter,
+            UpstreamRetryPolicy retryPolicy,
+            @Value("${employee.client.page-size:0}") int pageSize,
+            @Value("${employee.client.change-feed:true}") boolean changeFeed,
+            @Value("${employee.client.compression:true}") boolean compression,
+            UpstreamMetrics metrics) {
+        this.httpClient = upstreamHttpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.readTimeout = readTimeout;
+        this.rateLimiter = rateLimiter;
+        this.retryPolicy = retryPolicy;
+        this.pageSize = pageSize;
+        this.changeFeed = changeFeed;
+        this.compression = compression;
+        this.metrics = metrics;
+    }
+
+    /** Loads the roster in one response, or page by page when {@code employee.client.page-size} is positive. */
+    public CompletableFuture<List<Employee>> fetchAll() {
+        if (pageSize > 0) {
+            return fetchPagesFrom("", new ArrayList<>());
+        }
+        return send(get(baseUrl)).thenApply(response -> dataOrEmpty(parse(response.body(), ROSTER)));
+    }
+
+    /**
+     * Loads the roster unless it still matches {@code etag}, in which case the upstream's 304 completes the future
+     * with {@link VersionedRoster#notModified()}. With {@code employee.client.change-feed} on, only the changes since
+     * {@code etag} are fetched, and the roster is loaded in full if the upstream no longer has them (410 Gone). Paged
+     * loads are never conditional.
+     */
+    public CompletableFuture<VersionedRoster> fetchAllIfChanged(String etag) {
+        if (pageSize > 0) {
+            return fetchAll().thenApply(employees -> new VersionedRoster(employees, null));
+        }
+        if (etag == null) {
+            return send(get(baseUrl)).thenApply(this::versionedRoster);
+        }
+        if (changeFeed) {
+            return fetchChangesSince(etag).exceptionallyCompose(failure -> {
+                Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                if (cause instanceof HttpClientErrorException.Gone) {
+                    log.debug("Changes since {} are gone upstream; reloading the roster", etag);
+                    return fetchAllIfChanged(null);
+                }
+                return CompletableFuture.failedFuture(cause);
+            });
+        }
+        HttpRequest request = HttpRequest.newBuilder(get(baseUrl), (name, value) -> true)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .build();
+        return send(request).thenApply(this::versionedRoster);
+    }
+
+    /** The upstream's change feed since the roster served with {@code etag}; fails with 410 Gone once truncated. */
+    public CompletableFuture<VersionedRoster> fetchChangesSince(String etag) {
+        return send(get(baseUrl + "/changes?since=" + URLEncoder.encode(etag, StandardCharsets.UTF_8)))
+                .thenApply(response -> {
+                    ApiResponse<List<EmployeeChange>> changes = parse(response.body(), CHANGES);
+                    return VersionedRoster.changes(
+                            changes == null || changes.getData() == null ? List.of() : changes.getData(),
+                            response.headers().firstValue(HttpHeaders.ETAG).orElse(null));
+                });
+    }
+
+    private VersionedRoster versionedRoster(HttpResponse<byte[]> response) {
+        if (response.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+            return VersionedRoster.notModified();
+        }
+        return new VersionedRoster(
+                dataOrEmpty(parse(response.body(), ROSTER)),
+                response.headers().firstValue(HttpHeaders.ETAG).orElse(null));
+    }
+
+    public CompletableFuture<Employee> fetchById(String id) {
+        return send(get(baseUrl + "/" + id))
+                .thenApply(response -> parse(response.body(), SINGLE))
+                .thenApply(response -> response == null ? null : response.getData());
+    }
+
+    /**
+     * Creates the employees with one upstream {@code POST /bulk}. The result holds one entry per input, in order, each
+     * carrying either the created employee or the upstream's validation error.
+     */
+    public CompletableFuture<List<ApiResponse<Employee>>> createAll(List<EmployeeInput> inputs) {
+        return send(withBody(HttpMethod.POST, inputs))
+                .thenApply(response -> itemResults(parse(response.body(), CREATED), inputs.size()));
+    }
+
+    /** Deletes by name with one upstream {@code DELETE /bulk}; each entry says whether that name removed anyone. */
+    public CompletableFuture<List<ApiResponse<Boolean>>> deleteAllByName(List<String> names) {
+        List<Map<String, String>> body =
+                names.stream().map(name -> Map.of("name", name)).toList();
+        return send(withBody(HttpMethod.DELETE, body))
+                .thenApply(response -> itemResults(parse(response.body(), DELETED), names.size()));
+    }
+
+    private static <T> List<ApiResponse<T>> itemResults(ApiResponse<List<ApiResponse<T>>> response, int expected) {
+        if (response == null || response.getData() == null || response.getData().size() != expected) {
+            throw new IllegalStateException("Upstream bulk response does not have one result per item");
+        }
+        return response.getData();
+    }
+
+    private CompletableFuture<List<Employee>> fetchPagesFrom(String cursor, List<Employee> collected) {
+        return send(get(baseUrl + "?limit=" + pageSize + "&cursor=" + cursor)).thenCompose(response -> {
+            collected.addAll(dataOrEmpty(parse(response.body(), ROSTER)));
+            return response.headers()
+                    .firstValue(NEXT_CURSOR_HEADER)
+                    .map(next -> fetchPagesFrom(next, collected))
+                    .orElseGet(() -> CompletableFuture.completedFuture(collected));
+        });
+    }
+
+    private static List<Employee> dataOrEmpty(ApiResponse<List<Employee>> response) {
+        if (response == null || response.getData() == null) {
+            return new ArrayList<>();
+        }
+        return response.getData();
+    }
+
+    private HttpRequest get(String url) {
+        return accepting(HttpRequest.newBuilder(URI.create(url))).GET().build();
+    }
+
+    private HttpRequest withBody(HttpMethod method, Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return accepting(HttpRequest.newBuilder(URI.create(baseUrl + "/bulk")))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method(method.name(), HttpRequest.BodyPublishers.ofByteArray(json))
+                .build();
+    }
+
+    /*
+     * With employee.client.compression on the upstream may answer in gzip; DECODING inflates such bodies on receipt,
+     * so everything past attempt() sees plain JSON.
+     */
+    private HttpRequest.Builder accepting(HttpRequest.Builder builder) {
+        builder.timeout(readTimeout).header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        if (compression) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, GzipDecodingInterceptor.GZIP);
+        }
+        return builder;
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request) {
+        long start = System.nanoTime();
+        long deadline = start + retryPolicy.getDeadline().toNanos();
+        return attempt(request, 1, deadline)
+                .whenComplete((response, failure) -> metrics.record(
+                        true,
+                        HttpMethod.valueOf(request.method()),
+                        request.uri(),
+                        response == null ? 0 : response.statusCode(),
+                        failure instanceof CompletionException ? failure.getCause() : failure,
+                        start));
+    }
+
+    /*
+     * Same policy as UpstreamRetryInterceptor, expressed as a chain of delayed stages instead of sleeps.
+     */
+    private CompletableFuture<HttpResponse<byte[]>> attempt(HttpRequest request, int attempt, long deadline) {
+        long wait = rateLimiter.reserve(deadline - System.nanoTime());
+        if (wait < 0) {
+            return CompletableFuture.failedFuture(new UpstreamThrottledException(
+                    "Upstream is rate limiting; " + request.method() + " " + request.uri()
+                            + " shed before its deadline",
+                    rateLimiter.retryAfter()));
+        }
+        HttpMethod method = HttpMethod.valueOf(request.method());
+        log.debug("Sending async {} {}", request.method(), request.uri());
+        return delay(wait)
+                .thenCompose(ignored -> httpClient.sendAsync(request, GzipDecodingInterceptor.DECODING))
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        long pause = retryPolicy.isIdempotent(method)
+                                ? retryPolicy.nextPauseNanos(attempt, deadline, false)
+                                : -1;
+                        return pause < 0
+                                ? CompletableFuture.<HttpResponse<byte[]>>failedFuture(failure)
+                                : retry(request, attempt, deadline, pause);
+                    }
+                    int status = response.statusCode();
+                    boolean throttled = status == HttpStatus.TOO_MANY_REQUESTS.value();
+                    if (throttled) {
+                        rateLimiter.onThrottled(UpstreamRetryPolicy.parseRetryAfter(response.headers()
+                                .firstValue(HttpHeaders.RETRY_AFTER)
+                                .orElse(null)));
+                    } else {
+                        rateLimiter.onSuccess();
+                    }
+                    if (status < 400) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    long pause = retryPolicy.isRetryable(method, HttpStatusCode.valueOf(status))
+                            ? retryPolicy.nextPauseNanos(attempt, deadline, throttled)
+                            : -1;
+                    return pause < 0
+                            ? CompletableFuture.<HttpResponse<byte[]>>failedFuture(toException(response))
+                            : retry(request, attempt, deadline, pause);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> retry(
+            HttpRequest request, int attempt, long deadline, long pauseNanos) {
+        rateLimiter.recordRetry();
+        return delay(pauseNanos).thenCompose(ignored -> attempt(request, attempt + 1, deadline));
+    }
+
+    private static CompletableFuture<Void> delay(long nanos) {
+        if (nanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS));
+    }
+
+    private <T> T parse(byte[] body, TypeReference<T> type) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static RestClientResponseException toException(HttpResponse<byte[]> response) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(status, "", headers, response.body(), StandardCharsets.UTF_8);
+        }
+        return HttpServerErrorException.create(status, "", headers, response.body(), StandardCharsets.UTF_8);
+    }
+}
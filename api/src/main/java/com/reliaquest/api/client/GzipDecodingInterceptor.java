@@ -0,0 +1,115 @@
+package com.reliaquest.api.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Asks the upstream for gzip-compressed responses and inflates them as they are read, since neither the JDK client
+ * nor {@code RestTemplate} decodes a {@code Content-Encoding} on its own. A full roster compresses to a fraction of
+ * its JSON, which the upstream only sends compressed when asked.
+ *
+ * <p>{@link #DECODING} does the same for the non-blocking client. Responses without a gzip encoding pass through
+ * untouched.
+ */
+public class GzipDecodingInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String GZIP = "gzip";
+
+    /** Body handler that inflates gzip-encoded responses; for requests sent with {@code Accept-Encoding: gzip}. */
+    static final HttpResponse.BodyHandler<byte[]> DECODING = info ->
+            isGzip(info.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null))
+                    ? HttpResponse.BodySubscribers.mapping(
+                            HttpResponse.BodySubscribers.ofByteArray(), GzipDecodingInterceptor::gunzip)
+                    : HttpResponse.BodySubscribers.ofByteArray();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+        ClientHttpResponse response = execution.execute(request, body);
+        if (!isGzip(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+            return response;
+        }
+        return new InflatingResponse(response);
+    }
+
+    static boolean isGzip(String contentEncoding) {
+        return contentEncoding != null && contentEncoding.trim().equalsIgnoreCase(GZIP);
+    }
+
+    static byte[] gunzip(byte[] compressed) {
+        if (compressed.length == 0) {
+            return compressed;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /*
+     * The decoded body no longer matches the upstream's Content-Encoding and Content-Length, so both are dropped. An
+     * empty body (a 304, say) is passed through rather than read as a truncated gzip stream.
+     */
+    private static final class InflatingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final HttpHeaders headers;
+        private InputStream body;
+
+        InflatingResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+            this.headers = new HttpHeaders();
+            this.headers.putAll(delegate.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                PushbackInputStream raw = new PushbackInputStream(delegate.getBody());
+                int first = raw.read();
+                if (first < 0) {
+                    body = InputStream.nullInputStream();
+                } else {
+                    raw.unread(first);
+                    body = new GZIPInputStream(raw);
+                }
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers roster queries straight off the upstream response body with Jackson's token stream, instead of binding the
+ * whole {@code ApiResponse<List<Employee>>} first.
+ *
+ * <p>Each element of {@code data} is read into one reusable {@link Row} whose string fields are kept as character
+ * buffers, so rows that do not contribute to the answer cost no allocation. An {@link Employee} (or a name string) is
+ * only materialized for rows that end up in the result.
+ */
+@Component
+public class RosterStreamParser {
+
+    private final JsonFactory jsonFactory;
+
+    public RosterStreamParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public int highestSalary(InputStream body) {
+        int[] highest = {0};
+        forEachRow(body, row -> {
+            if (row.hasSalary && row.salary > highest[0]) {
+                highest[0] = row.salary;
+            }
+        });
+        return highest[0];
+    }
+
+    /** Names of the {@code limit} highest earners, highest first; ties keep roster order. */
+    public List<String> topEarnerNames(InputStream body, int limit) {
+        if (limit <= 0) {
+            forEachRow(body, row -> {});
+            return List.of();
+        }
+        PriorityQueue<Earner> weakestFirst = new PriorityQueue<>(limit + 1);
+        long[] position = {0};
+        forEachRow(body, row -> {
+            long at = position[0]++;
+            if (!row.hasSalary) {
+                return;
+            }
+            if (weakestFirst.size() == limit) {
+                Earner weakest = weakestFirst.peek();
+                if (row.salary <= weakest.salary) {
+                    return;
+                }
+                weakestFirst.poll();
+            }
+            weakestFirst.add(new Earner(row.salary, at, row.name.toStringOrNull()));
+        });
+        Earner[] earners = weakestFirst.toArray(new Earner[0]);
+        Arrays.sort(earners, (a, b) -> b.compareTo(a));
+        List<String> names = new ArrayList<>(earners.length);
+        for (Earner earner : earners) {
+            names.add(earner.name);
+        }
+        return names;
+    }
+
+    /** Employees whose name contains {@code fragment} ignoring case, in roster order. */
+    public List<Employee> searchByName(InputStream body, String fragment) {
+        char[] query = fold(fragment == null ? "" : fragment);
+        List<Employee> matches = new ArrayList<>();
+        forEachRow(body, row -> {
+            if (row.name.containsFolded(query)) {
+                matches.add(row.toEmployee());
+            }
+        });
+        return matches;
+    }
+
+    private void forEachRow(InputStream body, RowVisitor visitor) {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            Row row = new Row();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        row.read(parser);
+                        visitor.visit(row);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static char[] fold(String value) {
+        char[] folded = value.toCharArray();
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(folded[i]);
+        }
+        return folded;
+    }
+
+    @FunctionalInterface
+    private interface RowVisitor {
+        void visit(Row row);
+    }
+
+    private record Earner(int salary, long position, String name) implements Comparable<Earner> {
+
+        /** Orders weakest first: lower salary, then later in the roster. */
+        @Override
+        public int compareTo(Earner other) {
+            int bySalary = Integer.compare(salary, other.salary);
+            return bySalary != 0 ? bySalary : Long.compare(other.position, position);
+        }
+    }
+
+    /** The current {@code data} element; reset and refilled for every element. */
+    private static final class Row {
+
+        private final Text id = new Text();
+        private final Text name = new Text();
+        private final Text title = new Text();
+        private final Text email = new Text();
+        private int salary;
+        private boolean hasSalary;
+        private int age;
+        private boolean hasAge;
+
+        void read(JsonParser parser) throws IOException {
+            id.clear();
+            name.clear();
+            title.clear();
+            email.clear();
+            hasSalary = false;
+            hasAge = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "id" -> id.read(parser, value);
+                    case "employee_name" -> name.read(parser, value);
+                    case "employee_title" -> title.read(parser, value);
+                    case "employee_email" -> email.read(parser, value);
+                    case "employee_salary" -> {
+                        hasSalary = isNumber(parser, value);
+                        salary = hasSalary ? parser.getValueAsInt() : 0;
+                    }
+                    case "employee_age" -> {
+                        hasAge = isNumber(parser, value);
+                        age = hasAge ? parser.getValueAsInt() : 0;
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        /** Only JSON numbers count; {@code null} and anything else read as absent. */
+        private static boolean isNumber(JsonParser parser, JsonToken value) throws IOException {
+            if (value.isNumeric()) {
+                return true;
+            }
+            parser.skipChildren();
+            return false;
+        }
+
+        Employee toEmployee() {
+            Employee employee = new Employee();
+            employee.setId(id.toStringOrNull());
+            employee.setEmployee_name(name.toStringOrNull());
+            employee.setEmployee_salary(hasSalary ? salary : null);
+            employee.setEmployee_age(hasAge ? age : null);
+            employee.setEmployee_title(title.toStringOrNull());
+            employee.setEmployee_email(email.toStringOrNull());
+            return employee;
+        }
+    }
+
+    /** A growable character buffer standing in for a string field until it is actually needed. */
+    private static final class Text {
+
+        private char[] chars = new char[32];
+        private int length = -1;
+
+        void clear() {
+            length = -1;
+        }
+
+        void read(JsonParser parser, JsonToken value) throws IOException {
+            if (value == JsonToken.VALUE_NULL) {
+                length = -1;
+                return;
+            }
+            if (!value.isScalarValue()) {
+                parser.skipChildren();
+                length = -1;
+                return;
+            }
+            int size = parser.getTextLength();
+            if (size > chars.length) {
+                chars = new char[Math.max(size, chars.length * 2)];
+            }
+            System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), chars, 0, size);
+            length = size;
+        }
+
+        boolean containsFolded(char[] query) {
+            if (length < 0) {
+                return query.length == 0;
+            }
+            outer:
+            for (int start = 0; start + query.length <= length; start++) {
+                for (int i = 0; i < query.length; i++) {
+                    if (Character.toLowerCase(chars[start + i]) != query[i]) {
+                        continue outer;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        String toStringOrNull() {
+            return length < 0 ? null : new String(chars, 0, length);
+        }
+    }
+}
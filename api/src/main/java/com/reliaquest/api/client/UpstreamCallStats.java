@@ -0,0 +1,9 @@
+package com.reliaquest.api.client;
+
+/**
+ * @param throttled 429 responses observed from the upstream
+ * @param delayed calls that were queued behind the limiter before being sent
+ * @param retried re-sent attempts after a 429, 5xx or I/O failure
+ * @param shed calls rejected locally because no permit was available before their deadline
+ */
+public record UpstreamCallStats(long throttled, long delayed, long retried, long shed) {}
@@ -0,0 +1,196 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Times every logical upstream call, retries and limiter waits included, as {@code employee.upstream.requests}
+ * tagged with the client ({@code sync} for {@code RestTemplate}, {@code async} for {@link AsyncEmployeeClient}),
+ * method, URI template and final status.
+ *
+ * <p>The tag space is small and fixed, so each timer is registered on first use and then found by array index; the
+ * steady state allocates nothing beyond the wrapper that times a {@code RestTemplate} response until it is closed.
+ */
+@Component
+public class UpstreamMetrics implements ClientHttpRequestInterceptor {
+
+    static final String TIMER = "employee.upstream.requests";
+
+    private static final List<HttpMethod> METHODS =
+            List.of(HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+    private static final List<String> URIS = List.of("/", "/{id}", "/bulk", "/changes", "other");
+    private static final String[] CLIENTS = {"sync", "async"};
+
+    /** Slots past the last HTTP status for calls that never got a response. */
+    private static final int STATUSES = 600;
+
+    private static final int IO_ERROR = STATUSES;
+    private static final int SHED = STATUSES + 1;
+    private static final int SLOTS = STATUSES + 2;
+
+    private final MeterRegistry registry;
+    private final String basePath;
+    private final AtomicReferenceArray<Timer> timers =
+            new AtomicReferenceArray<>(CLIENTS.length * (METHODS.size() + 1) * URIS.size() * SLOTS);
+
+    public UpstreamMetrics(MeterRegistry registry, @Value("${employee.service.base-url}") String baseUrl) {
+        this.registry = registry;
+        this.basePath = stripTrailingSlash(URI.create(baseUrl).getPath());
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        try {
+            return new TimedResponse(execution.execute(request, body), request, start);
+        } catch (IOException | RuntimeException ex) {
+            record(false, request.getMethod(), request.getURI(), 0, ex, start);
+            throw ex;
+        }
+    }
+
+    /** Records a call made outside {@code RestTemplate}; {@code status} is ignored when {@code failure} is set. */
+    void record(boolean async, HttpMethod method, URI uri, int status, Throwable failure, long startNanos) {
+        int slot = failure == null ? statusSlot(status) : failureSlot(failure);
+        timer(async ? 1 : 0, method, uri, slot).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(int client, HttpMethod method, URI uri, int slot) {
+        int methodIndex = METHODS.indexOf(method);
+        if (methodIndex < 0) {
+            methodIndex = METHODS.size();
+        }
+        int uriIndex = uriIndex(uri.getPath());
+        int index = ((client * (METHODS.size() + 1) + methodIndex) * URIS.size() + uriIndex) * SLOTS + slot;
+        Timer timer = timers.get(index);
+        if (timer == null) {
+            timer = Timer.builder(TIMER)
+                    .description("Upstream employee API calls, including retries and rate limiter waits")
+                    .tag("client", CLIENTS[client])
+                    .tag("method", methodIndex < METHODS.size() ? method.name() : "OTHER")
+                    .tag("uri", URIS.get(uriIndex))
+                    .tag("status", statusTag(slot))
+                    .register(registry);
+            timers.set(index, timer);
+        }
+        return timer;
+    }
+
+    private int uriIndex(String path) {
+        if (path == null) {
+            return 4;
+        }
+        if (path.regionMatches(0, basePath, 0, basePath.length())) {
+            int rest = path.length() - basePath.length();
+            if (rest == 0 || (rest == 1 && path.charAt(basePath.length()) == '/')) {
+                return 0;
+            }
+            if (path.charAt(basePath.length()) == '/' && path.indexOf('/', basePath.length() + 1) < 0) {
+                if (path.endsWith("/bulk") && rest == 5) {
+                    return 2;
+                }
+                return path.endsWith("/changes") && rest == 8 ? 3 : 1;
+            }
+        }
+        return 4;
+    }
+
+    private static int statusSlot(int status) {
+        return status > 0 && status < STATUSES ? status : IO_ERROR;
+    }
+
+    private static int failureSlot(Throwable failure) {
+        if (failure instanceof RestClientResponseException response) {
+            return statusSlot(response.getStatusCode().value());
+        }
+        return failure instanceof UpstreamThrottledException ? SHED : IO_ERROR;
+    }
+
+    private static String statusTag(int slot) {
+        return switch (slot) {
+            case IO_ERROR -> "IO_ERROR";
+            case SHED -> "SHED";
+            default -> String.valueOf(slot);
+        };
+    }
+
+    private static String stripTrailingSlash(String path) {
+        if (path == null) {
+            return "";
+        }
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    /** Stops the clock when {@code RestTemplate} closes the response, i.e. after the body has been read. */
+    private final class TimedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final HttpRequest request;
+        private final long startNanos;
+        private boolean recorded;
+
+        TimedResponse(ClientHttpResponse delegate, HttpRequest request, long startNanos) {
+            this.delegate = delegate;
+            this.request = request;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            if (recorded) {
+                delegate.close();
+                return;
+            }
+            recorded = true;
+            int status;
+            try {
+                status = delegate.getStatusCode().value();
+            } catch (IOException ex) {
+                status = 0;
+            }
+            try {
+                delegate.close();
+            } finally {
+                record(false, request.getMethod(), request.getURI(), status, null, startNanos);
+            }
+        }
+    }
+}
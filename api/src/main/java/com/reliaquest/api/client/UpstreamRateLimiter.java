@@ -0,0 +1,183 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client-side token bucket in front of the upstream that learns its budget from observed 429s.
+ *
+ * <p>Callers reserve a permit and are told how long to wait for it, so requests queue in arrival order instead of
+ * being fired into a window the upstream is known to reject. When a 429 arrives the bucket is blocked until the
+ * upstream's {@code Retry-After} (or an exponentially growing penalty when it sends none), its capacity becomes the
+ * number of requests that succeeded since the previous 429, and it refills that capacity once per penalty period.
+ */
+@Slf4j
+@Component
+public class UpstreamRateLimiter {
+
+    private final Duration initialPenalty;
+    private final Duration maxPenalty;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double capacity;
+    private long refillPeriodNanos;
+    private double tokens;
+    private long lastRefillNanos;
+    private long blockedUntilNanos;
+    private int successesSinceThrottle;
+    private int consecutiveThrottles;
+
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    @Autowired
+    public UpstreamRateLimiter(
+            @Value("${employee.client.rate-limit.initial-capacity:10}") int initialCapacity,
+            @Value("${employee.client.rate-limit.refill-period:1s}") Duration refillPeriod,
+            @Value("${employee.client.rate-limit.initial-penalty:1s}") Duration initialPenalty,
+            @Value("${employee.client.rate-limit.max-penalty:90s}") Duration maxPenalty) {
+        this(initialCapacity, refillPeriod, initialPenalty, maxPenalty, System::nanoTime);
+    }
+
+    UpstreamRateLimiter(
+            int initialCapacity,
+            Duration refillPeriod,
+            Duration initialPenalty,
+            Duration maxPenalty,
+            LongSupplier nanoClock) {
+        this.initialPenalty = initialPenalty;
+        this.maxPenalty = maxPenalty;
+        this.nanoClock = nanoClock;
+        this.capacity = Math.max(1, initialCapacity);
+        this.refillPeriodNanos = refillPeriod.toNanos();
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.blockedUntilNanos = lastRefillNanos;
+    }
+
+    /**
+     * Reserves one permit.
+     *
+     * @return nanoseconds the caller must wait before sending, or {@code -1} if the permit would not be available
+     *     within {@code maxWaitNanos}, in which case nothing is reserved
+     */
+    public long reserve(long maxWaitNanos) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            long readyAt = Math.max(now, blockedUntilNanos);
+            if (tokens < 1) {
+                readyAt += (long) ((1 - tokens) * refillPeriodNanos / capacity);
+            }
+            long wait = readyAt - now;
+            if (wait > maxWaitNanos) {
+                shed.increment();
+                return -1;
+            }
+            tokens -= 1;
+            if (wait > 0) {
+                delayed.increment();
+            }
+            return wait;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            successesSinceThrottle++;
+            consecutiveThrottles = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Records a 429; {@code retryAfter} is the upstream's hint, or {@code null} when it sent none. */
+    public void onThrottled(Duration retryAfter) {
+        throttled.increment();
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (now < blockedUntilNanos) {
+                // Another in-flight request already reported this window.
+                return;
+            }
+            consecutiveThrottles++;
+            long penalty = retryAfter != null ? retryAfter.toNanos() : backoffNanos(consecutiveThrottles);
+            if (successesSinceThrottle > 0) {
+                capacity = successesSinceThrottle;
+            }
+            refillPeriodNanos = Math.max(1, penalty);
+            blockedUntilNanos = now + penalty;
+            lastRefillNanos = blockedUntilNanos;
+            tokens = capacity;
+            successesSinceThrottle = 0;
+            log.info(
+                    "Upstream throttled; pausing {} ms, learned budget {} requests per {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(penalty),
+                    (long) capacity,
+                    TimeUnit.NANOSECONDS.toMillis(refillPeriodNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Time until the upstream is expected to accept requests again. */
+    public Duration retryAfter() {
+        lock.lock();
+        try {
+            return Duration.ofNanos(Math.max(0, blockedUntilNanos - nanoClock.getAsLong()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Permits that can be taken right now without waiting. */
+    public int availablePermits() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (now < blockedUntilNanos) {
+                return 0;
+            }
+            refill(now);
+            return (int) Math.max(0, tokens);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void recordRetry() {
+        retried.increment();
+    }
+
+    public UpstreamCallStats stats() {
+        return new UpstreamCallStats(throttled.sum(), delayed.sum(), retried.sum(), shed.sum());
+    }
+
+    private void refill(long now) {
+        long from = Math.max(lastRefillNanos, blockedUntilNanos);
+        if (now > from) {
+            tokens = Math.min(capacity, tokens + (now - from) * capacity / refillPeriodNanos);
+            lastRefillNanos = now;
+        }
+    }
+
+    private long backoffNanos(int attempt) {
+        long penalty = initialPenalty.toNanos() << Math.min(attempt - 1, 20);
+        return Math.min(penalty, maxPenalty.toNanos());
+    }
+}
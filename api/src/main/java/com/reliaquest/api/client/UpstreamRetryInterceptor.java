@@ -0,0 +1,110 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gates every {@code RestTemplate} call through {@link UpstreamRateLimiter} and retries 429s (and, for idempotent
+ * methods, 502/503/504 and I/O errors) within {@link UpstreamRetryPolicy#getDeadline()}.
+ *
+ * <p>Every wait here parks a servlet worker, so limiter waits and backoff pauses together are capped at {@link
+ * UpstreamRetryPolicy#getMaxBlockingWait()}. Past that the call is shed with {@link UpstreamThrottledException} (which
+ * the roster cache answers from its stale snapshot) or the last failure is surfaced, rather than holding the thread
+ * for the whole deadline.
+ *
+ * <p>Must be the last interceptor: retries re-enter the execution after the interceptor chain is exhausted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpstreamRetryInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamRateLimiter rateLimiter;
+    private final UpstreamRetryPolicy retryPolicy;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long deadline = System.nanoTime() + retryPolicy.getDeadline().toNanos();
+        long blockingBudget = retryPolicy.getMaxBlockingWait().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            blockingBudget -= acquire(request, deadline, blockingBudget);
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException ex) {
+                long pause = retryPolicy.isIdempotent(request.getMethod())
+                        ? retryPolicy.nextPauseNanos(attempt, deadline, false)
+                        : -1;
+                if (pause < 0 || pause > blockingBudget) {
+                    throw ex;
+                }
+                log.debug("Retrying {} {} after I/O error: {}", request.getMethod(), request.getURI(), ex.getMessage());
+                retryAfter(pause);
+                blockingBudget -= pause;
+                continue;
+            }
+
+            HttpStatusCode status = response.getStatusCode();
+            boolean throttled = status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+            if (throttled) {
+                rateLimiter.onThrottled(UpstreamRetryPolicy.parseRetryAfter(
+                        response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+            } else {
+                rateLimiter.onSuccess();
+            }
+            if (!retryPolicy.isRetryable(request.getMethod(), status)) {
+                return response;
+            }
+            long pause = retryPolicy.nextPauseNanos(attempt, deadline, throttled);
+            if (pause < 0 || pause > blockingBudget) {
+                return response;
+            }
+            response.close();
+            log.debug("Retrying {} {} after {}", request.getMethod(), request.getURI(), status);
+            retryAfter(pause);
+            blockingBudget -= pause;
+        }
+    }
+
+    /** Waits for a limiter permit for at most the smaller of the time left and the blocking budget; returns the wait. */
+    private long acquire(HttpRequest request, long deadline, long blockingBudget) throws IOException {
+        long wait = rateLimiter.reserve(Math.min(deadline - System.nanoTime(), blockingBudget));
+        if (wait < 0) {
+            throw new UpstreamThrottledException(
+                    "Upstream is rate limiting; " + request.getMethod() + " " + request.getURI()
+                            + " shed rather than block its caller",
+                    rateLimiter.retryAfter());
+        }
+        sleep(wait);
+        return wait;
+    }
+
+    private void retryAfter(long pauseNanos) throws IOException {
+        rateLimiter.recordRetry();
+        sleep(pauseNanos);
+    }
+
+    private static void sleep(long nanos) throws IOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the upstream rate limiter", ex);
+        }
+    }
+}
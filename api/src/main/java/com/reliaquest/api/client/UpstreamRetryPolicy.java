@@ -0,0 +1,98 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared retry rules for the blocking and non-blocking upstream paths: how many attempts, how long a single logical
+ * request may take end to end, and full-jitter exponential backoff between attempts. The blocking path also caps the
+ * total time it parks a request thread at {@link #getMaxBlockingWait()}; the non-blocking path waits on a timer and
+ * only answers to the deadline.
+ */
+@Getter
+@Component
+public class UpstreamRetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration deadline;
+    private final Duration maxBlockingWait;
+
+    public UpstreamRetryPolicy(
+            @Value("${employee.client.retry.max-attempts:3}") int maxAttempts,
+            @Value("${employee.client.retry.initial-backoff:100ms}") Duration initialBackoff,
+            @Value("${employee.client.retry.max-backoff:2s}") Duration maxBackoff,
+            @Value("${employee.client.retry.deadline:10s}") Duration deadline,
+            @Value("${employee.client.retry.max-blocking-wait:500ms}") Duration maxBlockingWait) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.deadline = deadline;
+        this.maxBlockingWait = maxBlockingWait.compareTo(deadline) < 0 ? maxBlockingWait : deadline;
+    }
+
+    /** 429s are rejected before the upstream handles them, so every method may retry them. */
+    public boolean isRetryable(HttpMethod method, HttpStatusCode status) {
+        if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return true;
+        }
+        return isIdempotent(method)
+                && (status.value() == HttpStatus.BAD_GATEWAY.value()
+                        || status.value() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                        || status.value() == HttpStatus.GATEWAY_TIMEOUT.value());
+    }
+
+    public boolean isIdempotent(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
+    /**
+     * Pause before the attempt after {@code attempt}, or {@code -1} when no attempt or time budget is left. A 429
+     * pauses for zero here because the rate limiter's next reservation already holds the caller until the upstream
+     * reopens.
+     */
+    public long nextPauseNanos(int attempt, long deadlineNanos, boolean throttled) {
+        if (attempt >= maxAttempts) {
+            return -1;
+        }
+        if (throttled) {
+            return 0;
+        }
+        long pause = backoffNanos(attempt);
+        return System.nanoTime() + pause < deadlineNanos ? pause : -1;
+    }
+
+    long backoffNanos(int attempt) {
+        long ceiling = Math.min(maxBackoff.toNanos(), initialBackoff.toNanos() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /** Parses a {@code Retry-After} header given either as delta-seconds or as an HTTP date. */
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // fall through to the HTTP-date form
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration until = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+}
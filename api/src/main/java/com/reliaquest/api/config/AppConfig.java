@@ -1,13 +1,98 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.GzipDecodingInterceptor;
+import com.reliaquest.api.client.UpstreamMetrics;
+import com.reliaquest.api.client.UpstreamRetryInterceptor;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+@Slf4j
 @Configuration
 public class AppConfig {
+
+    /*
+     * The JDK client's pool limits are JVM-wide system properties, read once when the first HttpClient in the JVM is
+     * built. They are set here, ahead of the client bean, so every way of starting the context gets them;
+     * -D flags win. A host that builds its own HttpClient first has to pass them as flags instead.
+     */
+    static {
+        System.getProperties().putIfAbsent("jdk.httpclient.keepalive.timeout", "30");
+        System.getProperties().putIfAbsent("jdk.httpclient.connectionPoolSize", "64");
+    }
+
+    /*
+     * The JDK client keeps a per-client keep-alive pool and negotiates HTTP/2 when the upstream offers it.
+     *
+     * With spring.threads.virtual.enabled on Java 21+, Tomcat already runs each request (and so each blocking
+     * RestTemplate call) on its own virtual thread; the client's async work (response handoff and the callbacks of the
+     * non-blocking paths) is moved from its cached platform pool onto virtual threads as well.
+     */
+    @Bean
+    public HttpClient upstreamHttpClient(
+            @Value("${employee.client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.client.http-version:HTTP_2}") HttpClient.Version version,
+            Environment environment) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(new VirtualThreadTaskExecutor("upstream-"));
+        } else if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn(
+                    "spring.threads.virtual.enabled is set but Java {} has no virtual threads; using platform threads",
+                    Runtime.version().feature());
+        }
+        return builder.build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            HttpClient upstreamHttpClient,
+            @Value("${employee.client.read-timeout:5s}") Duration readTimeout,
+            @Value("${employee.client.compression:true}") boolean compression,
+            UpstreamRetryInterceptor retryInterceptor,
+            UpstreamMetrics upstreamMetrics) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(upstreamHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        // Outermost, so one logical call is timed once however many attempts the retry interceptor makes.
+        restTemplate.getInterceptors().add(upstreamMetrics);
+        if (compression) {
+            // Inside metrics, so the recorded call covers inflating the body; outside retry, which must stay last.
+            restTemplate.getInterceptors().add(new GzipDecodingInterceptor());
+        }
+        restTemplate.getInterceptors().add(retryInterceptor);
+        return restTemplate;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService rosterRefreshExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "roster-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService lookupBatchScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lookup-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 }
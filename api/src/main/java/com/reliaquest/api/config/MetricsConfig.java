@@ -0,0 +1,135 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.service.EmployeeLookupBatcher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Request latency per endpoint comes from Spring MVC's own http.server.requests timer; the SLO buckets it is
+ * published with live in application.yml. Everything here reads counters the components already keep, so nothing is
+ * computed until a scrape asks for it.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder rosterCacheMetrics(EmployeeRosterCache rosterCache) {
+        return registry -> {
+            Gauge.builder("employee.roster.size", rosterCache, EmployeeRosterCache::snapshotSize)
+                    .description("Employees in the cached roster snapshot")
+                    .register(registry);
+            rosterCounter(registry, rosterCache, "hit", cache -> cache.stats().hits());
+            rosterCounter(registry, rosterCache, "stale", cache -> cache.stats().staleHits());
+            rosterCounter(registry, rosterCache, "miss", cache -> cache.stats().misses());
+            rosterCounter(registry, rosterCache, "stale_when_throttled", cache -> cache.stats()
+                    .staleServedWhenThrottled());
+            FunctionTimer.builder(
+                            "employee.roster.refresh",
+                            rosterCache,
+                            cache -> cache.stats().refreshes(),
+                            cache -> cache.stats().totalRefreshNanos(),
+                            TimeUnit.NANOSECONDS)
+                    .description("Completed roster reloads from the upstream")
+                    .register(registry);
+            FunctionCounter.builder("employee.roster.refresh.failures", rosterCache, cache -> cache.stats()
+                            .refreshFailures())
+                    .register(registry);
+            FunctionCounter.builder("employee.roster.refresh.not_modified", rosterCache, cache -> cache.stats()
+                            .notModified())
+                    .description("Roster reloads the upstream answered with 304 Not Modified")
+                    .register(registry);
+            FunctionCounter.builder("employee.roster.refresh.delta", rosterCache, cache -> cache.stats()
+                            .deltas())
+                    .description("Roster reloads applied from the upstream's change feed")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder lookupCacheMetrics(EmployeeByIdCache byIdCache, EmployeeLookupBatcher lookupBatcher) {
+        return registry -> {
+            lookupCounter(registry, byIdCache, "hit", cache -> cache.stats().hits());
+            lookupCounter(
+                    registry, byIdCache, "coalesced", cache -> cache.stats().coalesced());
+            lookupCounter(registry, byIdCache, "load", cache -> cache.stats().loads());
+            FunctionCounter.builder("employee.lookup.batches", lookupBatcher, batcher -> batcher.stats()
+                            .batches())
+                    .register(registry);
+            FunctionCounter.builder("employee.lookup.batched.ids", lookupBatcher, batcher -> batcher.stats()
+                            .batchedIds())
+                    .register(registry);
+            FunctionCounter.builder("employee.lookup.fetches", lookupBatcher, batcher -> batcher.stats()
+                            .bulkFetches())
+                    .tag("mode", "bulk")
+                    .register(registry);
+            FunctionCounter.builder("employee.lookup.fetches", lookupBatcher, batcher -> batcher.stats()
+                            .singleFetches())
+                    .tag("mode", "single")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder upstreamLimiterMetrics(UpstreamRateLimiter rateLimiter) {
+        return registry -> {
+            Gauge.builder("employee.upstream.permits", rateLimiter, UpstreamRateLimiter::availablePermits)
+                    .description("Permits the client-side limiter can hand out right now")
+                    .register(registry);
+            limiterCounter(registry, rateLimiter, "throttled", limiter -> limiter.stats()
+                    .throttled());
+            limiterCounter(
+                    registry, rateLimiter, "delayed", limiter -> limiter.stats().delayed());
+            limiterCounter(
+                    registry, rateLimiter, "retried", limiter -> limiter.stats().retried());
+            limiterCounter(
+                    registry, rateLimiter, "shed", limiter -> limiter.stats().shed());
+        };
+    }
+
+    private static void rosterCounter(
+            MeterRegistry registry,
+            EmployeeRosterCache rosterCache,
+            String result,
+            ToDoubleFunction<EmployeeRosterCache> count) {
+        FunctionCounter.builder("employee.roster.cache.requests", rosterCache, count)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static void lookupCounter(
+            MeterRegistry registry,
+            EmployeeByIdCache byIdCache,
+            String result,
+            ToDoubleFunction<EmployeeByIdCache> count) {
+        FunctionCounter.builder("employee.lookup.cache.requests", byIdCache, count)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static void limiterCounter(
+            MeterRegistry registry,
+            UpstreamRateLimiter rateLimiter,
+            String event,
+            ToDoubleFunction<UpstreamRateLimiter> count) {
+        FunctionCounter.builder("employee.upstream.limiter.events", rateLimiter, count)
+                .tag("event", event)
+                .register(registry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.controller.SerializedResponseInterceptor;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final EmployeeService employeeService;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${employee.response-cache.enabled:true}")
+    private boolean responseCacheEnabled;
+
+    @Value("${employee.response-cache.gzip-min-size:${server.compression.min-response-size:2KB}}")
+    private DataSize gzipMinSize;
+
+    /*
+     * The whole-roster reads whose answer only changes with the roster snapshot are served from bytes serialized once
+     * per snapshot; see SerializedResponseInterceptor. Each body is what the controller method would have returned.
+     * They are kept gzipped from the size at which server.compression would gzip them, which skips bodies that
+     * already carry a Content-Encoding, so the two never compress the same response.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!responseCacheEnabled) {
+            log.info("Serialized response cache is disabled");
+            return;
+        }
+        addSerialized(registry, "/", "getAll", EmployeeSnapshot::getEmployees);
+        addSerialized(registry, "/highestSalary", "highestSalary", EmployeeSnapshot::highestSalary);
+        addSerialized(
+                registry, "/topTenHighestEarningEmployeeNames", "topTen", snapshot -> snapshot.topEarnerNames(10));
+    }
+
+    private void addSerialized(
+            InterceptorRegistry registry, String path, String endpoint, Function<EmployeeSnapshot, ?> body) {
+        registry.addInterceptor(new SerializedResponseInterceptor(
+                        endpoint, body, employeeService, objectMapper, (int) gzipMinSize.toBytes(), meterRegistry))
+                .addPathPatterns(path);
+    }
+}
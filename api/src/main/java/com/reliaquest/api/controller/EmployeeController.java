@@ -1,12 +1,19 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeBulkService;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -16,6 +23,8 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
 
     private final EmployeeService employeeService;
 
+    private final EmployeeBulkService bulkService;
+
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
         return ResponseEntity.ok(employeeService.getAllEmployees());
@@ -26,6 +35,17 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return ResponseEntity.ok(employeeService.searchByName(searchString));
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<Employee>> getEmployeesByNameSearchPage(
+            @RequestParam("name") String searchString,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (offset < 0 || limit < 1) {
+            throw new IllegalArgumentException("offset must be >= 0 and limit must be >= 1");
+        }
+        return ResponseEntity.ok(employeeService.searchByName(searchString, offset, limit));
+    }
+
     @Override
     public ResponseEntity<Employee> getEmployeeById(String id) {
         return ResponseEntity.ok(employeeService.getById(id));
@@ -50,4 +70,14 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     public ResponseEntity<String> deleteEmployeeById(String id) {
         return ResponseEntity.ok(employeeService.deleteEmployeeById(id));
     }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResult<Employee>> createEmployees(@RequestBody List<EmployeeInput> employeeInputs) {
+        return ResponseEntity.ok(bulkService.createEmployees(employeeInputs));
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkResult<String>> deleteEmployeesById(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(bulkService.deleteEmployeesById(ids));
+    }
 }
@@ -0,0 +1,145 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers one read endpoint from response bytes serialized once per roster snapshot, instead of running the
+ * controller and Jackson on every request.
+ *
+ * <p>The bytes are kept on the {@link EmployeeSnapshot} they were rendered from, so a reload or local patch that
+ * publishes a new snapshot retires them in the same step; a body of size {@code gzipMinSize} or more is also kept
+ * gzipped, for clients that accept it. Requests that cannot take a JSON body, and every request while the roster
+ * cache is off, go through to the controller as before.
+ */
+public class SerializedResponseInterceptor implements HandlerInterceptor {
+
+    private final EmployeeService employeeService;
+    private final Function<EmployeeSnapshot, ?> body;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinSize;
+    private final Counter requests;
+    private final Counter renders;
+    private final Timer serialization;
+
+    public SerializedResponseInterceptor(
+            String endpoint,
+            Function<EmployeeSnapshot, ?> body,
+            EmployeeService employeeService,
+            ObjectMapper objectMapper,
+            int gzipMinSize,
+            MeterRegistry meterRegistry) {
+        this.employeeService = employeeService;
+        this.body = body;
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+        this.requests = Counter.builder("employee.response.cache.requests")
+                .description("Requests answered from serialized response bytes")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        this.renders = Counter.builder("employee.response.cache.renders")
+                .description("Response bodies serialized for a new roster snapshot")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        this.serialization = Timer.builder("json.serialization")
+                .description("Time spent writing JSON response bodies")
+                .register(meterRegistry);
+    }
+
+    private record SerializedBody(byte[] json, byte[] gzip) {}
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!"GET".equals(request.getMethod()) || !acceptsJson(request.getHeader(HttpHeaders.ACCEPT))) {
+            return true;
+        }
+        EmployeeSnapshot snapshot = employeeService.currentSnapshot();
+        if (snapshot == null) {
+            return true;
+        }
+        SerializedBody serialized = snapshot.rendered(this, this::render);
+        boolean gzip = serialized.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] bytes = gzip ? serialized.gzip() : serialized.json();
+        requests.increment();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (serialized.gzip() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+        return false;
+    }
+
+    private SerializedBody render(EmployeeSnapshot snapshot) {
+        long start = System.nanoTime();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body.apply(snapshot));
+            renders.increment();
+            return new SerializedBody(json, json.length >= gzipMinSize ? gzip(json) : null);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            serialization.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(type -> type.isCompatibleWith(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+
+    /*
+     * Only an explicit gzip coding counts, and only with a non-zero quality; "*" is left to the plain body.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -1,12 +1,14 @@
 package com.reliaquest.api.exception;
 
 import com.reliaquest.api.model.ApiErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -17,12 +19,43 @@ public class GlobalExceptionHandler {
                 .body(ApiErrorResponse.of("Employee not found", ex.getMessage()));
     }
 
+    @ExceptionHandler(HttpClientErrorException.TooManyRequests.class)
+    public ResponseEntity<ApiErrorResponse> handleUpstreamTooManyRequests(HttpClientErrorException.TooManyRequests ex) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        String retryAfter =
+                ex.getResponseHeaders() == null ? null : ex.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            response.header(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return response.body(ApiErrorResponse.of("Upstream rate limit exceeded", ex.getMessage()));
+    }
+
+    @ExceptionHandler(UpstreamThrottledException.class)
+    public ResponseEntity<ApiErrorResponse> handleThrottled(UpstreamThrottledException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(
+                        HttpHeaders.RETRY_AFTER,
+                        String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(ApiErrorResponse.of("Upstream rate limit exceeded", ex.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiErrorResponse> handleBadRequest(IllegalArgumentException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiErrorResponse.of("Bad request", ex.getMessage()));
+    }
+
     @ExceptionHandler(HttpServerErrorException.class)
     public ResponseEntity<ApiErrorResponse> handleServerError(HttpServerErrorException ex) {
         return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
                 .body(ApiErrorResponse.of("Upstream service error", ex.getMessage()));
     }
 
+    @ExceptionHandler(ResourceAccessException.class)
+    public ResponseEntity<ApiErrorResponse> handleUpstreamUnavailable(ResourceAccessException ex) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(ApiErrorResponse.of("Upstream service unavailable", ex.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleGeneric(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,16 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/** Raised when an upstream call cannot be sent within its deadline because the upstream is rate limiting us. */
+@Getter
+public class UpstreamThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
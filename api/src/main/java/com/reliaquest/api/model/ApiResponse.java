@@ -6,4 +6,5 @@ import lombok.Data;
 public class ApiResponse<T> {
     private T data;
     private String status;
+    private String error;
 }
@@ -0,0 +1,24 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** Outcome of one item of a bulk request; {@code index} is the item's position in the request body. */
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult<T> {
+    private int index;
+    private boolean succeeded;
+    private T data;
+    private String error;
+
+    public static <T> BulkItemResult<T> succeeded(int index, T data) {
+        return new BulkItemResult<>(index, true, data, null);
+    }
+
+    public static <T> BulkItemResult<T> failed(int index, String error) {
+        return new BulkItemResult<>(index, false, null, error);
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.Data;
+
+/** Per-item results of a bulk request, in request order, with the totals of each outcome. */
+@Data
+public class BulkResult<T> {
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult<T>> results;
+
+    public static <T> BulkResult<T> of(List<BulkItemResult<T>> results) {
+        BulkResult<T> bulk = new BulkResult<>();
+        bulk.setResults(results);
+        for (BulkItemResult<T> result : results) {
+            if (result.isSucceeded()) {
+                bulk.succeeded++;
+            } else {
+                bulk.failed++;
+            }
+        }
+        return bulk;
+    }
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One entry of the upstream's roster change feed: an employee created or deleted, and the version that produced. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChange {
+    public static final String CREATED = "CREATED";
+    public static final String DELETED = "DELETED";
+
+    private long version;
+    private String type;
+    private Employee employee;
+}
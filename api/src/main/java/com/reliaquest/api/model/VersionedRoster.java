@@ -0,0 +1,49 @@
+package com.reliaquest.api.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a conditional roster load. One of:
+ *
+ * <ul>
+ *   <li>the full roster and the ETag it was served with (null when the upstream sends none);</li>
+ *   <li>the changes since the ETag the load was conditional on, oldest first, and the ETag of the roster they lead
+ *       to;</li>
+ *   <li>nothing at all, when the upstream answered 304 Not Modified.</li>
+ * </ul>
+ */
+public record VersionedRoster(List<Employee> employees, List<EmployeeChange> changes, String etag) {
+
+    private static final VersionedRoster NOT_MODIFIED = new VersionedRoster(null, null, null);
+
+    public VersionedRoster(List<Employee> employees, String etag) {
+        this(employees, null, etag);
+    }
+
+    public static VersionedRoster notModified() {
+        return NOT_MODIFIED;
+    }
+
+    /**
+     * A run of changes, oldest first, kept in order and in full: a create followed by a delete of the same employee
+     * must still delete it from a roster that already held it.
+     */
+    public static VersionedRoster changes(List<EmployeeChange> changes, String etag) {
+        List<EmployeeChange> applicable = new ArrayList<>(changes.size());
+        for (EmployeeChange change : changes) {
+            if (change.getEmployee() != null && change.getEmployee().getId() != null) {
+                applicable.add(change);
+            }
+        }
+        return new VersionedRoster(null, applicable, etag);
+    }
+
+    public boolean isNotModified() {
+        return employees == null && changes == null;
+    }
+
+    public boolean isChanges() {
+        return changes != null;
+    }
+}
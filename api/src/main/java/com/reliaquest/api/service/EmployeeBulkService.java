@@ -0,0 +1,208 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.AsyncEmployeeClient;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BulkItemResult;
+import com.reliaquest.api.model.BulkResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bulk creates and deletes against the upstream's {@code /bulk} endpoints.
+ *
+ * <ul>
+ *   <li>Items are cut into chunks of {@code chunkSize}, each sent as one upstream request, so a large import costs a
+ *       handful of requests against the upstream's rate limit instead of one per employee.</li>
+ *   <li>Up to {@code parallelism} chunks are on the wire at once; each lane sends its next chunk as soon as the
+ *       previous one completes, without waiting for the other lanes.</li>
+ *   <li>Failures are reported per item: an item the upstream rejects carries its validation error, and a chunk that
+ *       fails as a whole (throttled past its deadline, I/O error, or an answer that does not have one result per
+ *       item) marks each of its items failed while the other chunks still go through.</li>
+ * </ul>
+ *
+ * Created employees are applied to the local caches in one patch per request, as a single create is. Deletes expire
+ * the roster snapshot instead, as a single delete does, since the upstream may remove a different employee of the
+ * same name.
+ */
+@Slf4j
+@Service
+public class EmployeeBulkService {
+
+    private final AsyncEmployeeClient asyncClient;
+    private final EmployeeService employeeService;
+    private final EmployeeRosterCache rosterCache;
+    private final EmployeeByIdCache byIdCache;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int maxItems;
+
+    public EmployeeBulkService(
+            AsyncEmployeeClient asyncClient,
+            EmployeeService employeeService,
+            EmployeeRosterCache rosterCache,
+            EmployeeByIdCache byIdCache,
+            @Value("${employee.bulk.chunk-size:500}") int chunkSize,
+            @Value("${employee.bulk.parallelism:4}") int parallelism,
+            @Value("${employee.bulk.max-items:10000}") int maxItems) {
+        this.asyncClient = asyncClient;
+        this.employeeService = employeeService;
+        this.rosterCache = rosterCache;
+        this.byIdCache = byIdCache;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.maxItems = maxItems;
+    }
+
+    public BulkResult<Employee> createEmployees(List<EmployeeInput> inputs) {
+        checkSize(inputs);
+        List<BulkItemResult<Employee>> results = submit(inputs, asyncClient::createAll);
+        List<Employee> created = new ArrayList<>();
+        for (BulkItemResult<Employee> result : results) {
+            if (result.isSucceeded()) {
+                created.add(result.getData());
+                byIdCache.put(result.getData());
+            }
+        }
+        if (!created.isEmpty()) {
+            rosterCache.onCreatedAll(created);
+        }
+        log.debug("Bulk created {} of {} employees", created.size(), inputs.size());
+        return BulkResult.of(results);
+    }
+
+    /**
+     * Deletes by ID. The upstream deletes by name, so IDs are first resolved to names; IDs that cannot be resolved
+     * fail without an upstream call.
+     */
+    public BulkResult<String> deleteEmployeesById(List<String> ids) {
+        checkSize(ids);
+        Map<String, String> names = employeeService.resolveNames(ids);
+        List<Integer> positions = new ArrayList<>(ids.size());
+        List<String> toDelete = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            String name = names.get(ids.get(i));
+            if (name != null) {
+                positions.add(i);
+                toDelete.add(name);
+            }
+        }
+        List<BulkItemResult<Boolean>> outcomes = submit(toDelete, asyncClient::deleteAllByName);
+
+        List<BulkItemResult<String>> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            results.add(BulkItemResult.failed(i, "Employee with id " + ids.get(i) + " not found"));
+        }
+        int deleted = 0;
+        boolean rosterChanged = false;
+        for (int i = 0; i < outcomes.size(); i++) {
+            int index = positions.get(i);
+            BulkItemResult<Boolean> outcome = outcomes.get(i);
+            if (outcome.isSucceeded() && Boolean.TRUE.equals(outcome.getData())) {
+                results.set(index, BulkItemResult.succeeded(index, ids.get(index)));
+                byIdCache.invalidate(ids.get(index));
+                deleted++;
+                rosterChanged = true;
+            } else if (!outcome.isSucceeded()) {
+                results.set(index, BulkItemResult.failed(index, outcome.getError()));
+                // A chunk that failed as a whole may still have been applied upstream.
+                rosterChanged = true;
+            }
+        }
+        if (rosterChanged) {
+            rosterCache.expire();
+        }
+        log.debug("Bulk deleted {} of {} employees", deleted, ids.size());
+        return BulkResult.of(results);
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > maxItems) {
+            throw new IllegalArgumentException("Bulk requests take between 1 and " + maxItems + " items");
+        }
+    }
+
+    /*
+     * Runs the chunks on at most `parallelism` lanes and waits for all of them. Lanes never fail: a failed chunk is
+     * turned into per-item failures, so one bad chunk cannot cancel the others.
+     */
+    private <I, O> List<BulkItemResult<O>> submit(
+            List<I> items, Function<List<I>, CompletableFuture<List<ApiResponse<O>>>> call) {
+        AtomicReferenceArray<BulkItemResult<O>> results = new AtomicReferenceArray<>(items.size());
+        int chunks = (items.size() + chunkSize - 1) / chunkSize;
+        AtomicInteger next = new AtomicInteger();
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(parallelism, chunks)];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = lane(next, chunks, chunk -> {
+                int from = chunk * chunkSize;
+                int to = Math.min(from + chunkSize, items.size());
+                return CompletableFuture.completedFuture(items.subList(from, to))
+                        .thenCompose(call)
+                        .handle((responses, failure) -> {
+                            Throwable chunkFailure = failure == null ? checkAnswered(responses, to - from) : failure;
+                            for (int i = from; i < to; i++) {
+                                results.set(
+                                        i,
+                                        itemResult(
+                                                i,
+                                                chunkFailure == null ? responses.get(i - from) : null,
+                                                chunkFailure));
+                            }
+                            return null;
+                        });
+            });
+        }
+        CompletableFuture.allOf(lanes).join();
+        List<BulkItemResult<O>> ordered = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ordered.add(results.get(i));
+        }
+        return ordered;
+    }
+
+    private static CompletableFuture<Void> lane(
+            AtomicInteger next, int chunks, IntFunction<CompletableFuture<Void>> runChunk) {
+        int chunk = next.getAndIncrement();
+        if (chunk >= chunks) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return runChunk.apply(chunk).thenCompose(ignored -> lane(next, chunks, runChunk));
+    }
+
+    private static Throwable checkAnswered(List<?> responses, int items) {
+        int answered = responses == null ? 0 : responses.size();
+        if (answered == items) {
+            return null;
+        }
+        return new IllegalStateException(
+                "Upstream answered " + answered + " results for a chunk of " + items + " items");
+    }
+
+    private static <O> BulkItemResult<O> itemResult(int index, ApiResponse<O> response, Throwable failure) {
+        if (failure != null) {
+            Throwable cause =
+                    failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            return BulkItemResult.failed(index, cause.getMessage());
+        }
+        if (response == null) {
+            return BulkItemResult.failed(index, "Upstream answered no result for this item");
+        }
+        if (response.getError() != null) {
+            return BulkItemResult.failed(index, response.getError());
+        }
+        return BulkItemResult.succeeded(index, response.getData());
+    }
+}
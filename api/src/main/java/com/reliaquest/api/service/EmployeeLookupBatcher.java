@@ -0,0 +1,200 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.client.AsyncEmployeeClient;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Gathers {@code getById} misses for a short window (or until {@code maxBatch} distinct IDs are waiting) and then
+ * resolves the whole batch with whichever upstream shape is cheaper:
+ *
+ * <ul>
+ *   <li>one {@code GET /{id}} per ID when the batch is small and the rate limiter has a permit for each, or</li>
+ *   <li>a single roster reload when the batch reaches {@code bulkThreshold} IDs or the limiter could not cover one
+ *       request per ID. IDs missing from the reloaded roster fail with the same 404 the upstream would return.</li>
+ * </ul>
+ *
+ * Both paths are non-blocking, so the flush never ties up the scheduler thread. A zero window disables batching and
+ * callers fetch directly.
+ */
+@Slf4j
+@Component
+public class EmployeeLookupBatcher {
+
+    private final long windowNanos;
+    private final int maxBatch;
+    private final int bulkThreshold;
+    private final ScheduledExecutorService scheduler;
+    private final UpstreamRateLimiter rateLimiter;
+    private final AsyncEmployeeClient asyncClient;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<String, CompletableFuture<Employee>> pending = new LinkedHashMap<>();
+    private Supplier<CompletableFuture<EmployeeSnapshot>> pendingBulkLoader;
+    private boolean flushScheduled;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedIds = new LongAdder();
+    private final LongAdder bulkFetches = new LongAdder();
+    private final LongAdder singleFetches = new LongAdder();
+
+    public EmployeeLookupBatcher(
+            @Value("${employee.lookup.batch-window:2ms}") Duration window,
+            @Value("${employee.lookup.max-batch:64}") int maxBatch,
+            @Value("${employee.lookup.bulk-threshold:8}") int bulkThreshold,
+            @Qualifier("lookupBatchScheduler") ScheduledExecutorService scheduler,
+            UpstreamRateLimiter rateLimiter,
+            AsyncEmployeeClient asyncClient) {
+        this.windowNanos = window.toNanos();
+        this.maxBatch = Math.max(1, maxBatch);
+        this.bulkThreshold = Math.max(2, bulkThreshold);
+        this.scheduler = scheduler;
+        this.rateLimiter = rateLimiter;
+        this.asyncClient = asyncClient;
+    }
+
+    public boolean isEnabled() {
+        return windowNanos > 0;
+    }
+
+    /**
+     * Queues {@code id} for the current batch and blocks until that batch resolves. {@code bulkLoader} reloads the
+     * roster snapshot; it is only invoked if the batch is resolved in bulk.
+     */
+    public Employee lookup(String id, Supplier<CompletableFuture<EmployeeSnapshot>> bulkLoader) {
+        CompletableFuture<Employee> result;
+        boolean flushNow = false;
+        lock.lock();
+        try {
+            result = pending.computeIfAbsent(id, ignored -> new CompletableFuture<>());
+            if (pendingBulkLoader == null) {
+                pendingBulkLoader = bulkLoader;
+            }
+            if (pending.size() >= maxBatch) {
+                flushNow = true;
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (flushNow) {
+            flush();
+        }
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public LookupBatchStats stats() {
+        return new LookupBatchStats(batches.sum(), batchedIds.sum(), bulkFetches.sum(), singleFetches.sum());
+    }
+
+    void flush() {
+        Map<String, CompletableFuture<Employee>> batch;
+        Supplier<CompletableFuture<EmployeeSnapshot>> bulkLoader;
+        lock.lock();
+        try {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            bulkLoader = pendingBulkLoader;
+            pending = new LinkedHashMap<>();
+            pendingBulkLoader = null;
+        } finally {
+            lock.unlock();
+        }
+        batches.increment();
+        batchedIds.add(batch.size());
+        if (preferBulk(batch.size())) {
+            resolveInBulk(batch, bulkLoader);
+        } else {
+            resolveIndividually(batch);
+        }
+    }
+
+    private boolean preferBulk(int ids) {
+        return ids > 1 && (ids >= bulkThreshold || rateLimiter.availablePermits() < ids);
+    }
+
+    private void resolveInBulk(
+            Map<String, CompletableFuture<Employee>> batch, Supplier<CompletableFuture<EmployeeSnapshot>> bulkLoader) {
+        bulkFetches.increment();
+        log.debug("Resolving {} ID lookups from one roster reload", batch.size());
+        CompletableFuture<EmployeeSnapshot> reload;
+        try {
+            reload = bulkLoader.get();
+        } catch (RuntimeException ex) {
+            reload = CompletableFuture.failedFuture(ex);
+        }
+        reload.whenComplete((snapshot, failure) -> batch.forEach((id, promise) -> {
+            if (failure != null) {
+                promise.completeExceptionally(failure instanceof CompletionException ? failure.getCause() : failure);
+                return;
+            }
+            Employee employee = snapshot.findById(id);
+            if (employee != null) {
+                promise.complete(employee);
+            } else {
+                promise.completeExceptionally(notFound(id));
+            }
+        }));
+    }
+
+    private void resolveIndividually(Map<String, CompletableFuture<Employee>> batch) {
+        batch.forEach((id, promise) -> {
+            singleFetches.increment();
+            CompletableFuture<Employee> fetch;
+            try {
+                fetch = asyncClient.fetchById(id);
+            } catch (RuntimeException ex) {
+                fetch = CompletableFuture.failedFuture(ex);
+            }
+            fetch.whenComplete((employee, failure) -> {
+                if (failure != null) {
+                    promise.completeExceptionally(
+                            failure instanceof CompletionException ? failure.getCause() : failure);
+                } else {
+                    promise.complete(employee);
+                }
+            });
+        });
+    }
+
+    private static HttpClientErrorException notFound(String id) {
+        return HttpClientErrorException.create(
+                "Employee " + id + " not found",
+                HttpStatus.NOT_FOUND,
+                HttpStatus.NOT_FOUND.getReasonPhrase(),
+                HttpHeaders.EMPTY,
+                new byte[0],
+                StandardCharsets.UTF_8);
+    }
+}
@@ -1,12 +1,22 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.RosterLoader;
+import com.reliaquest.api.client.AsyncEmployeeClient;
+import com.reliaquest.api.client.RosterStreamParser;
 import com.reliaquest.api.model.*;
+import java.io.InputStream;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 @Service
@@ -17,34 +27,274 @@ public class EmployeeService {
 
     private final String baseUrl;
 
-    public EmployeeService(RestTemplate restTemplate, @Value("${employee.service.base-url}") String baseUrl) {
+    private final EmployeeRosterCache rosterCache;
+
+    private final RosterLoader rosterLoader;
+
+    private final EmployeeByIdCache byIdCache;
+
+    private final EmployeeLookupBatcher lookupBatcher;
+
+    private final int pageSize;
+
+    private final boolean cacheEnabled;
+
+    private final boolean changeFeed;
+
+    private final RosterStreamParser streamParser;
+
+    public EmployeeService(
+            RestTemplate restTemplate,
+            @Value("${employee.service.base-url}") String baseUrl,
+            @Value("${employee.client.page-size:0}") int pageSize,
+            @Value("${employee.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${employee.client.change-feed:true}") boolean changeFeed,
+            EmployeeRosterCache rosterCache,
+            AsyncEmployeeClient asyncClient,
+            EmployeeByIdCache byIdCache,
+            EmployeeLookupBatcher lookupBatcher,
+            RosterStreamParser streamParser) {
         this.restTemplate = restTemplate;
         this.baseUrl = baseUrl;
+        this.pageSize = pageSize;
+        this.cacheEnabled = cacheEnabled;
+        this.changeFeed = changeFeed;
+        this.streamParser = streamParser;
+        this.rosterCache = rosterCache;
+        this.byIdCache = byIdCache;
+        this.lookupBatcher = lookupBatcher;
+        this.rosterLoader = new RosterLoader() {
+            @Override
+            public List<Employee> load() {
+                return fetchAllEmployees();
+            }
+
+            @Override
+            public CompletableFuture<List<Employee>> loadAsync(Executor executor) {
+                return asyncClient.fetchAll();
+            }
+
+            @Override
+            public VersionedRoster loadIfChanged(String etag) {
+                if (pageSize > 0) {
+                    return new VersionedRoster(fetchAllEmployeePages(), null);
+                }
+                return changeFeed && etag != null ? fetchChanges(etag) : fetchRoster(etag);
+            }
+
+            @Override
+            public CompletableFuture<VersionedRoster> loadIfChangedAsync(String etag, Executor executor) {
+                return asyncClient.fetchAllIfChanged(etag);
+            }
+        };
     }
 
     public List<Employee> getAllEmployees() {
-        log.info("Fetching all employees from {}", baseUrl);
+        return cacheEnabled ? snapshot().getEmployees() : fetchAllEmployees();
+    }
+
+    /**
+     * The roster snapshot the read endpoints answer from, loaded or refreshed exactly as they would; {@code null} when
+     * the roster cache is off.
+     */
+    public EmployeeSnapshot currentSnapshot() {
+        return cacheEnabled ? snapshot() : null;
+    }
+
+    private EmployeeSnapshot snapshot() {
+        return rosterCache.get(rosterLoader);
+    }
+
+    List<Employee> fetchAllEmployees() {
+        if (pageSize > 0) {
+            return fetchAllEmployeePages();
+        }
+        return fetchRoster(null).employees();
+    }
+
+    /*
+     * With an ETag the request is conditional, and a 304 comes back as VersionedRoster.notModified() without a body to
+     * read. Without one no entity is sent at all.
+     */
+    private VersionedRoster fetchRoster(String etag) {
+        log.debug("Fetching all employees from {}", baseUrl);
+        HttpEntity<Void> request = null;
+        if (etag != null) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfNoneMatch(etag);
+            request = new HttpEntity<>(headers);
+        }
         ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
                 baseUrl,
                 HttpMethod.GET,
-                null,
+                request,
                 new org.springframework.core.ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            log.debug("Roster unchanged since {}", etag);
+            return VersionedRoster.notModified();
+        }
         if (Objects.isNull(response.getBody())) {
             log.info("No employees found");
-            return new ArrayList<>();
+            return new VersionedRoster(new ArrayList<>(), null);
         }
         List<Employee> employeeList = response.getBody().getData();
         log.debug("Received {} employees", employeeList.size());
+        return new VersionedRoster(employeeList, response.getHeaders().getETag());
+    }
+
+    /*
+     * Asks the upstream's change feed for what happened since the roster tagged `etag`, and falls back to loading the
+     * roster in full when the feed no longer reaches back that far.
+     */
+    private VersionedRoster fetchChanges(String etag) {
+        log.debug("Fetching roster changes since {} from {}", etag, baseUrl);
+        ResponseEntity<ApiResponse<List<EmployeeChange>>> response;
+        try {
+            response = restTemplate.exchange(
+                    baseUrl + "/changes?since={since}",
+                    HttpMethod.GET,
+                    null,
+                    new org.springframework.core.ParameterizedTypeReference<ApiResponse<List<EmployeeChange>>>() {},
+                    etag);
+        } catch (HttpClientErrorException.Gone ex) {
+            log.debug("Changes since {} are gone upstream; reloading the roster", etag);
+            return fetchRoster(null);
+        }
+        List<EmployeeChange> changes =
+                response.getBody() == null || response.getBody().getData() == null
+                        ? List.of()
+                        : response.getBody().getData();
+        log.debug("Received {} roster changes", changes.size());
+        return VersionedRoster.changes(changes, response.getHeaders().getETag());
+    }
+
+    /*
+     * Walks the upstream's cursor pagination so no single response has to hold the whole roster.
+     */
+    private List<Employee> fetchAllEmployeePages() {
+        log.debug("Fetching all employees from {} in pages of {}", baseUrl, pageSize);
+        List<Employee> employeeList = new ArrayList<>();
+        String cursor = "";
+        do {
+            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
+                    baseUrl + "?limit=" + pageSize + "&cursor=" + cursor,
+                    HttpMethod.GET,
+                    null,
+                    new org.springframework.core.ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+            if (response.getBody() != null && response.getBody().getData() != null) {
+                employeeList.addAll(response.getBody().getData());
+            }
+            cursor = response.getHeaders().getFirst(AsyncEmployeeClient.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+        log.debug("Received {} employees", employeeList.size());
         return employeeList;
     }
 
     public List<Employee> searchByName(String nameFragment) {
-        return getAllEmployees().stream()
-                .filter(emp -> emp.getEmployee_name().toLowerCase().contains(nameFragment.toLowerCase()))
-                .collect(Collectors.toList());
+        return searchByName(nameFragment, 0, Integer.MAX_VALUE);
+    }
+
+    public List<Employee> searchByName(String nameFragment, int offset, int limit) {
+        if (!cacheEnabled) {
+            List<Employee> matches = streamRoster(body -> streamParser.searchByName(body, nameFragment));
+            int from = Math.min(offset, matches.size());
+            return matches.subList(from, (int) Math.min((long) from + limit, matches.size()));
+        }
+        return snapshot().searchByName(nameFragment, offset, limit);
     }
 
+    /**
+     * Answers from a fresh roster snapshot when one is loaded, otherwise through the per-ID cache so concurrent
+     * lookups for the same ID share one upstream request. With the roster cache on, misses for distinct IDs are
+     * micro-batched so a burst can be answered by a single roster reload instead of one request per ID; with it off
+     * there is no snapshot to reload into, so each miss is fetched on its own.
+     */
     public Employee getById(String id) {
+        EmployeeSnapshot snapshot = rosterCache.getIfFresh();
+        if (snapshot != null) {
+            Employee employee = snapshot.findById(id);
+            if (employee != null) {
+                return employee;
+            }
+        }
+        return byIdCache.get(id, cacheEnabled && lookupBatcher.isEnabled() ? this::lookupBatched : this::fetchById);
+    }
+
+    /**
+     * Names of the given employees, for the upstream's name-keyed deletes. Resolved locally where possible (see
+     * {@link #knownName}); the rest from one roster snapshot when the cache is on, otherwise ID by ID. IDs the upstream
+     * does not know are left out.
+     */
+    Map<String, String> resolveNames(List<String> ids) {
+        Map<String, String> names = new HashMap<>(ids.size() * 4 / 3 + 1);
+        List<String> unresolved = new ArrayList<>();
+        for (String id : ids) {
+            String name = knownName(id);
+            if (name != null) {
+                names.put(id, name);
+            } else {
+                unresolved.add(id);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return names;
+        }
+        EmployeeSnapshot snapshot = cacheEnabled ? snapshot() : null;
+        for (String id : unresolved) {
+            Employee employee;
+            if (snapshot != null) {
+                employee = snapshot.findById(id);
+            } else {
+                try {
+                    employee = getById(id);
+                } catch (HttpClientErrorException.NotFound ex) {
+                    employee = null;
+                }
+            }
+            if (employee != null && employee.getEmployee_name() != null) {
+                names.put(id, employee.getEmployee_name());
+            }
+        }
+        return names;
+    }
+
+    /*
+     * The upstream has no update endpoint, so an ID's name never changes: any roster snapshot we hold, however old,
+     * and any employee we have created or looked up can answer it without a request. A stale answer for an employee
+     * deleted elsewhere only makes the name-keyed delete report false, as it would have anyway.
+     */
+    private String knownName(String id) {
+        EmployeeSnapshot snapshot = rosterCache.peek();
+        String name = snapshot == null ? null : snapshot.nameOf(id);
+        if (name == null) {
+            Employee cached = byIdCache.peek(id);
+            name = cached == null ? null : cached.getEmployee_name();
+        }
+        return name;
+    }
+
+    /*
+     * Falls back to GET /{id} on a local miss; the result is cached so a retried delete does not look it up again.
+     */
+    private String resolveName(String id) {
+        String name = knownName(id);
+        if (name != null) {
+            return name;
+        }
+        Employee employee = fetchById(id);
+        if (employee == null || employee.getEmployee_name() == null) {
+            throw HttpClientErrorException.create(
+                    HttpStatus.NOT_FOUND, "Employee with id " + id + " not found", HttpHeaders.EMPTY, null, null);
+        }
+        byIdCache.put(employee);
+        return employee.getEmployee_name();
+    }
+
+    private Employee lookupBatched(String id) {
+        return lookupBatcher.lookup(id, () -> rosterCache.refreshAsync(rosterLoader));
+    }
+
+    Employee fetchById(String id) {
         ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
                 baseUrl + "/" + id,
                 HttpMethod.GET,
@@ -58,18 +308,30 @@ public class EmployeeService {
     }
 
     public Integer getHighestSalary() {
-        return getAllEmployees().stream()
-                .map(Employee::getEmployee_salary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        if (!cacheEnabled) {
+            return streamRoster(streamParser::highestSalary);
+        }
+        return snapshot().highestSalary();
     }
 
     public List<String> getTop10HighestEarningEmployeeNames() {
-        return getAllEmployees().stream()
-                .sorted((a, b) -> b.getEmployee_salary().compareTo(a.getEmployee_salary()))
-                .limit(10)
-                .map(Employee::getEmployee_name)
-                .collect(Collectors.toList());
+        return getTopHighestEarningEmployeeNames(10);
+    }
+
+    public List<String> getTopHighestEarningEmployeeNames(int limit) {
+        if (!cacheEnabled) {
+            return streamRoster(body -> streamParser.topEarnerNames(body, limit));
+        }
+        return snapshot().topEarnerNames(limit);
+    }
+
+    /*
+     * With the roster cache switched off, aggregates and filters are computed while the upstream body is being read,
+     * so only the employees that make it into the answer are ever materialized.
+     */
+    private <T> T streamRoster(Function<InputStream, T> query) {
+        log.debug("Streaming all employees from {}", baseUrl);
+        return restTemplate.execute(baseUrl, HttpMethod.GET, null, response -> query.apply(response.getBody()));
     }
 
     public Employee createEmployee(EmployeeInput input) {
@@ -87,17 +349,37 @@ public class EmployeeService {
             log.warn("Employees not created");
             return null;
         }
-        return response.getBody().getData();
+        Employee created = response.getBody().getData();
+        if (created != null) {
+            rosterCache.onCreated(created);
+            byIdCache.put(created);
+        }
+        return created;
     }
 
+    /**
+     * The upstream deletes by name, so the ID is resolved to a name first. In the common case the name is known locally
+     * and the delete costs the one upstream request.
+     *
+     * <p>The upstream removes the first employee with that name, which is not necessarily this ID when names repeat,
+     * and does not say which one it removed. So the local copies are not patched by ID: the roster snapshot is expired
+     * and the next read reloads it (only the changes since, with the change feed on).
+     */
     public String deleteEmployeeById(String id) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(Map.of("name", resolveName(id)), headers);
+
         ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
-                baseUrl + "/" + id,
+                baseUrl,
                 HttpMethod.DELETE,
-                null,
+                request,
                 new org.springframework.core.ParameterizedTypeReference<ApiResponse<Boolean>>() {});
 
-        if (Boolean.TRUE.equals(response.getBody().getData())) {
+        if (response.getBody() != null && Boolean.TRUE.equals(response.getBody().getData())) {
+            rosterCache.expire();
+            byIdCache.invalidate(id);
             return "Employee with id " + id + " deleted successfully";
         } else {
             throw new RuntimeException("Failed to delete employee with id " + id);
@@ -0,0 +1,10 @@
+package com.reliaquest.api.service;
+
+/** Point-in-time counters for {@link EmployeeLookupBatcher}. */
+public record LookupBatchStats(long batches, long batchedIds, long bulkFetches, long singleFetches) {
+
+    /** Average number of distinct IDs resolved per flushed batch. */
+    public double averageBatchSize() {
+        return batches == 0 ? 0.0 : (double) batchedIds / batches;
+    }
+}
@@ -1,5 +1,7 @@
 package com.reliaquest.api;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -10,4 +12,10 @@ class ApiApplicationTest {
     void someTest() {
         // do the thing here
     }
+
+    @Test
+    void testContextSetsHttpClientPoolDefaults() {
+        assertEquals("30", System.getProperty("jdk.httpclient.keepalive.timeout"));
+        assertEquals("64", System.getProperty("jdk.httpclient.connectionPoolSize"));
+    }
 }
@@ -0,0 +1,173 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class ColumnarRosterTest {
+
+    private static final String[] TITLES = {"Engineer", "Manager", "Analyst", null};
+
+    private Employee createEmployee(String id, String name, Integer salary, Integer age, String title) {
+        Employee emp = new Employee();
+        emp.setId(id);
+        emp.setEmployee_name(name);
+        emp.setEmployee_salary(salary);
+        emp.setEmployee_age(age);
+        emp.setEmployee_title(title);
+        emp.setEmployee_email(name == null ? null : name.toLowerCase() + "@company.com");
+        return emp;
+    }
+
+    private List<Employee> randomRoster(int size) {
+        Random random = new Random(5);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            employees.add(createEmployee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    "Emp" + i,
+                    random.nextInt(10) == 0 ? null : random.nextInt(1000),
+                    random.nextInt(10) == 0 ? null : 18 + random.nextInt(50),
+                    TITLES[random.nextInt(TITLES.length)]));
+        }
+        return employees;
+    }
+
+    @Test
+    void testEmployeesRoundTrip() {
+        List<Employee> employees = randomRoster(500);
+        employees.add(createEmployee("42", "Numeric Id", 10, 30, "Engineer"));
+        employees.add(createEmployee("0F8FAD5B-D9CB-469F-A165-70867728950E", "Upper Case", 10, 30, null));
+        employees.add(createEmployee(null, null, null, null, null));
+
+        ColumnarRoster roster = ColumnarRoster.of(employees);
+
+        assertEquals(employees, roster.asList());
+        assertEquals(employees.size(), roster.size());
+    }
+
+    @Test
+    void testRowOfFindsPackedAndOtherIds() {
+        List<Employee> employees = randomRoster(200);
+        employees.add(createEmployee("42", "Numeric Id", 10, 30, "Engineer"));
+        ColumnarRoster roster = ColumnarRoster.of(employees);
+
+        for (int row = 0; row < employees.size(); row++) {
+            assertEquals(row, roster.rowOf(employees.get(row).getId()));
+        }
+        assertEquals(-1, roster.rowOf(UUID.randomUUID().toString()));
+        assertEquals(-1, roster.rowOf("43"));
+        assertEquals(-1, roster.rowOf(null));
+    }
+
+    @Test
+    void testTopEarnerRowsMatchFullSort() {
+        List<Employee> employees = randomRoster(1000);
+        ColumnarRoster roster = ColumnarRoster.of(employees);
+
+        List<String> expected = employees.stream()
+                .filter(emp -> emp.getEmployee_salary() != null)
+                .sorted(Comparator.comparing(Employee::getEmployee_salary).reversed())
+                .limit(25)
+                .map(Employee::getEmployee_name)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, roster.topEarnerNames(25));
+        assertEquals(
+                employees.stream()
+                        .filter(emp -> emp.getEmployee_salary() != null)
+                        .mapToInt(Employee::getEmployee_salary)
+                        .max()
+                        .getAsInt(),
+                roster.highestSalary());
+    }
+
+    @Test
+    void testPlusMinusAndCompact() {
+        List<Employee> employees = randomRoster(10);
+        ColumnarRoster roster = ColumnarRoster.of(employees);
+        Employee added = createEmployee("new-id", "Newcomer", 5000, 40, "Director");
+
+        ColumnarRoster grown = roster.plus(added);
+        ColumnarRoster shrunk = grown.minus(grown.rowOf(employees.get(3).getId()));
+
+        assertEquals(10, roster.size());
+        assertEquals(10, grown.rowOf("new-id"));
+        assertEquals(added, grown.employee(10));
+        assertEquals(5000, grown.highestSalary());
+        assertEquals(10, shrunk.size());
+        assertEquals(11, shrunk.rows());
+        assertTrue(shrunk.isRemoved(3));
+        assertEquals(-1, shrunk.rowOf(employees.get(3).getId()));
+
+        ColumnarRoster compacted = shrunk.compact();
+        List<Employee> expected = new ArrayList<>(employees);
+        expected.remove(3);
+        expected.add(added);
+        assertEquals(expected, compacted.asList());
+        assertEquals(expected, shrunk.asList());
+        assertEquals(0, compacted.removedRows());
+        assertEquals(9, compacted.rowOf("new-id"));
+    }
+
+    @Test
+    void testAppendsLeaveEarlierRostersIntact() {
+        List<Employee> employees = randomRoster(10);
+        ColumnarRoster roster = ColumnarRoster.of(employees);
+        Employee first = createEmployee("first", "First", 5000, 30, "Engineer");
+        Employee second = createEmployee("second", "Second", 6000, 30, "Intern");
+
+        ColumnarRoster appended = roster.plus(first);
+        ColumnarRoster forked = roster.plus(second);
+        ColumnarRoster extended = appended.plus(second);
+
+        assertEquals(employees, roster.asList());
+        assertEquals(first, appended.employee(10));
+        assertEquals(second, forked.employee(10));
+        assertEquals(-1, roster.rowOf("first"));
+        assertEquals(-1, appended.rowOf("second"));
+        assertEquals(-1, forked.rowOf("first"));
+        assertEquals(11, extended.rowOf("second"));
+        assertEquals(List.of("Second", "First"), extended.topEarnerNames(2));
+        assertEquals(List.of("Second"), forked.topEarnerNames(1));
+    }
+
+    @Test
+    void testRepeatedAppendsKeepEverySnapshot() {
+        List<Employee> employees = randomRoster(1000);
+        List<ColumnarRoster> snapshots = new ArrayList<>();
+        ColumnarRoster roster = ColumnarRoster.of(List.of());
+        for (Employee employee : employees) {
+            roster = roster.plus(employee);
+            snapshots.add(roster);
+        }
+        Employee replacement = createEmployee(employees.get(7).getId(), "Replacement", 1, 20, null);
+        ColumnarRoster updated = roster.minus(7).plus(replacement);
+
+        for (int size = 1; size <= employees.size(); size += 111) {
+            ColumnarRoster snapshot = snapshots.get(size - 1);
+            assertEquals(employees.subList(0, size), snapshot.asList());
+            assertEquals(size - 1, snapshot.rowOf(employees.get(size - 1).getId()));
+        }
+        assertEquals(7, roster.rowOf(replacement.getId()));
+        assertEquals(1000, updated.rowOf(replacement.getId()));
+        assertEquals(replacement, updated.asList().get(999));
+    }
+
+    @Test
+    void testEmptyRoster() {
+        ColumnarRoster roster = ColumnarRoster.of(List.of());
+
+        assertEquals(0, roster.highestSalary());
+        assertTrue(roster.topEarnerNames(10).isEmpty());
+        assertTrue(roster.asList().isEmpty());
+        assertEquals(-1, roster.rowOf("1"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class EmployeeByIdCacheTest {
+
+    private EmployeeByIdCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeByIdCache(100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    private Employee createEmployee(String id, String name) {
+        Employee emp = new Employee();
+        emp.setId(id);
+        emp.setEmployee_name(name);
+        return emp;
+    }
+
+    @Test
+    void testConcurrentLookupsShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, Employee> slowLoader = id -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return createEmployee(id, "Alice");
+        };
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Employee>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> cache.get("1", slowLoader), callers));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (CompletableFuture<Employee> result : results) {
+                assertEquals("Alice", result.get(5, TimeUnit.SECONDS).getEmployee_name());
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        LookupCacheStats stats = cache.stats();
+        assertEquals(1, loads.get());
+        assertEquals(8, stats.requests());
+        assertEquals(1, stats.loads());
+        assertEquals(7, stats.coalesced() + stats.hits());
+    }
+
+    @Test
+    void testFailedLoadsAreNotCached() {
+        Function<String, Employee> notFound = id -> {
+            loads.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "", null, null, null);
+        };
+
+        assertThrows(HttpClientErrorException.NotFound.class, () -> cache.get("1", notFound));
+        assertThrows(HttpClientErrorException.NotFound.class, () -> cache.get("1", notFound));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testPutAndInvalidate() {
+        cache.put(createEmployee("1", "Alice"));
+
+        assertEquals("Alice", cache.get("1", id -> createEmployee(id, "Bob")).getEmployee_name());
+
+        cache.invalidate("1");
+
+        assertEquals("Bob", cache.get("1", id -> createEmployee(id, "Bob")).getEmployee_name());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+}
@@ -0,0 +1,415 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.VersionedRoster;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeRosterCacheTest {
+
+    private MutableClock clock;
+
+    private EmployeeRosterCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new EmployeeRosterCache(Duration.ofSeconds(5), Duration.ofSeconds(30), 10, true, Runnable::run, clock);
+        loads = new AtomicInteger();
+    }
+
+    private Employee createEmployee(String id, String name) {
+        Employee emp = new Employee();
+        emp.setId(id);
+        emp.setEmployee_name(name);
+        emp.setEmployee_salary(1000);
+        return emp;
+    }
+
+    private RosterLoader loader(String name) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(createEmployee(String.valueOf(loads.get()), name));
+        };
+    }
+
+    @Test
+    void testFreshSnapshotIsServedWithoutReload() {
+        EmployeeSnapshot first = cache.get(loader("Alice"));
+        clock.advance(Duration.ofSeconds(4));
+        EmployeeSnapshot second = cache.get(loader("Bob"));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void testStaleSnapshotIsServedWhileRefreshing() {
+        cache.get(loader("Alice"));
+        clock.advance(Duration.ofSeconds(10));
+
+        EmployeeSnapshot stale = cache.get(loader("Bob"));
+        EmployeeSnapshot refreshed = cache.get(loader("Carol"));
+
+        assertEquals("Alice", stale.getEmployees().get(0).getEmployee_name());
+        assertEquals("Bob", refreshed.getEmployees().get(0).getEmployee_name());
+        assertTrue(refreshed.getVersion() > stale.getVersion());
+        assertEquals(1, cache.stats().staleHits());
+        assertEquals(2, cache.stats().refreshes());
+    }
+
+    @Test
+    void testExpiredSnapshotBlocksOnReload() {
+        cache.get(loader("Alice"));
+        clock.advance(Duration.ofMinutes(1));
+
+        EmployeeSnapshot reloaded = cache.get(loader("Bob"));
+
+        assertEquals("Bob", reloaded.getEmployees().get(0).getEmployee_name());
+        assertEquals(2, cache.stats().misses());
+    }
+
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RosterLoader slowLoader = () -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(createEmployee("1", "Alice"));
+        };
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<EmployeeSnapshot>> results = List.of(
+                    CompletableFuture.supplyAsync(() -> cache.get(slowLoader), callers),
+                    CompletableFuture.supplyAsync(() -> cache.get(slowLoader), callers),
+                    CompletableFuture.supplyAsync(() -> cache.get(slowLoader), callers),
+                    CompletableFuture.supplyAsync(() -> cache.get(slowLoader), callers));
+            Thread.sleep(100);
+            release.countDown();
+
+            EmployeeSnapshot first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (CompletableFuture<EmployeeSnapshot> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLocalPatchesBumpVersion() {
+        EmployeeSnapshot loaded = cache.get(loader("Alice"));
+
+        cache.onCreated(createEmployee("42", "Bob"));
+        EmployeeSnapshot created = cache.get(loader("ignored"));
+        cache.onDeleted("42");
+        EmployeeSnapshot deleted = cache.get(loader("ignored"));
+
+        assertEquals(2, created.size());
+        assertTrue(created.getVersion() > loaded.getVersion());
+        assertEquals(1, deleted.size());
+        assertTrue(deleted.getVersion() > created.getVersion());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testBackgroundRefreshUsesAsyncLoad() {
+        cache.get(loader("Alice"));
+        clock.advance(Duration.ofSeconds(10));
+        CompletableFuture<List<Employee>> pending = new CompletableFuture<>();
+        RosterLoader asyncLoader = new RosterLoader() {
+            @Override
+            public List<Employee> load() {
+                throw new AssertionError("refresh must not block");
+            }
+
+            @Override
+            public CompletableFuture<List<Employee>> loadAsync(Executor executor) {
+                return pending;
+            }
+        };
+
+        EmployeeSnapshot stale = cache.get(asyncLoader);
+        pending.complete(List.of(createEmployee("9", "Bob")));
+        EmployeeSnapshot refreshed = cache.get(asyncLoader);
+
+        assertEquals("Alice", stale.getEmployees().get(0).getEmployee_name());
+        assertEquals("Bob", refreshed.getEmployees().get(0).getEmployee_name());
+    }
+
+    @Test
+    void testNotModifiedKeepsSnapshotAndVersion() {
+        RosterLoader conditional = new RosterLoader() {
+            @Override
+            public List<Employee> load() {
+                throw new AssertionError("loads must be conditional");
+            }
+
+            @Override
+            public VersionedRoster loadIfChanged(String etag) {
+                loads.incrementAndGet();
+                return "\"v1\"".equals(etag)
+                        ? VersionedRoster.notModified()
+                        : new VersionedRoster(List.of(createEmployee("1", "Alice")), "\"v1\"");
+            }
+
+            @Override
+            public CompletableFuture<VersionedRoster> loadIfChangedAsync(String etag, Executor executor) {
+                return CompletableFuture.completedFuture(loadIfChanged(etag));
+            }
+        };
+        EmployeeSnapshot loaded = cache.get(conditional);
+
+        clock.advance(Duration.ofMinutes(5));
+        EmployeeSnapshot revalidated = cache.get(conditional);
+        clock.advance(Duration.ofSeconds(10));
+        cache.get(conditional);
+        EmployeeSnapshot refreshedInBackground = cache.get(conditional);
+
+        assertEquals("\"v1\"", loaded.getEtag());
+        assertSame(loaded.getRoster(), revalidated.getRoster());
+        assertSame(loaded.getNameIndex(), revalidated.getNameIndex());
+        assertEquals(loaded.getVersion(), revalidated.getVersion());
+        assertEquals(clock.instant(), refreshedInBackground.getLoadedAt());
+        assertSame(loaded.getRoster(), refreshedInBackground.getRoster());
+        assertEquals(3, loads.get());
+        assertEquals(2, cache.stats().notModified());
+    }
+
+    @Test
+    void testChangesAreAppliedToSnapshot() {
+        Employee carol = createEmployee("3", "Carol");
+        carol.setEmployee_salary(9000);
+        RosterLoader feed = new RosterLoader() {
+            @Override
+            public List<Employee> load() {
+                throw new AssertionError("loads must be conditional");
+            }
+
+            @Override
+            public VersionedRoster loadIfChanged(String etag) {
+                loads.incrementAndGet();
+                if (etag == null) {
+                    return new VersionedRoster(
+                            List.of(createEmployee("1", "Alice"), createEmployee("2", "Bob")), "\"e-2\"");
+                }
+                if ("\"e-2\"".equals(etag)) {
+                    return VersionedRoster.changes(
+                            List.of(
+                                    new EmployeeChange(3, EmployeeChange.CREATED, carol),
+                                    new EmployeeChange(4, EmployeeChange.DELETED, createEmployee("1", "Alice"))),
+                            "\"e-4\"");
+                }
+                return VersionedRoster.changes(List.of(), etag);
+            }
+        };
+        EmployeeSnapshot loaded = cache.get(feed);
+        cache.onCreated(carol);
+
+        clock.advance(Duration.ofMinutes(5));
+        EmployeeSnapshot applied = cache.get(feed);
+        clock.advance(Duration.ofMinutes(5));
+        EmployeeSnapshot unchanged = cache.get(feed);
+
+        assertEquals(2, loaded.size());
+        assertEquals(
+                List.of("2", "3"),
+                applied.getEmployees().stream().map(Employee::getId).toList());
+        assertEquals("\"e-4\"", applied.getEtag());
+        assertEquals(9000, applied.highestSalary());
+        assertEquals(clock.instant().minus(Duration.ofMinutes(5)), applied.getLoadedAt());
+        assertEquals(applied.getVersion(), unchanged.getVersion());
+        assertSame(applied.getRoster(), unchanged.getRoster());
+        assertEquals(1, cache.stats().deltas());
+        assertEquals(1, cache.stats().notModified());
+    }
+
+    @Test
+    void testCreateAndDeleteInOneWindowRemovesLocallyCreatedEmployee() {
+        Employee carol = createEmployee("3", "Carol");
+        Employee dave = createEmployee("4", "Dave");
+        RosterLoader feed = new RosterLoader() {
+            @Override
+            public List<Employee> load() {
+                throw new AssertionError("loads must be conditional");
+            }
+
+            @Override
+            public VersionedRoster loadIfChanged(String etag) {
+                loads.incrementAndGet();
+                if (etag == null) {
+                    return new VersionedRoster(List.of(createEmployee("1", "Alice")), "\"e-1\"");
+                }
+                if ("\"e-1\"".equals(etag)) {
+                    return VersionedRoster.changes(
+                            List.of(
+                                    new EmployeeChange(2, EmployeeChange.CREATED, carol),
+                                    new EmployeeChange(3, EmployeeChange.DELETED, carol),
+                                    new EmployeeChange(4, EmployeeChange.CREATED, dave)),
+                            "\"e-4\"");
+                }
+                if ("\"e-4\"".equals(etag)) {
+                    return VersionedRoster.changes(
+                            List.of(new EmployeeChange(5, EmployeeChange.CREATED, dave)), "\"e-5\"");
+                }
+                return VersionedRoster.changes(List.of(), etag);
+            }
+        };
+        cache.get(feed);
+        cache.onCreated(carol);
+        cache.onCreated(dave);
+
+        clock.advance(Duration.ofMinutes(5));
+        EmployeeSnapshot applied = cache.get(feed);
+        clock.advance(Duration.ofMinutes(5));
+        EmployeeSnapshot retagged = cache.get(feed);
+        clock.advance(Duration.ofMinutes(5));
+        cache.get(feed);
+
+        assertEquals(
+                List.of("1", "4"),
+                applied.getEmployees().stream().map(Employee::getId).toList());
+        assertEquals("\"e-4\"", applied.getEtag());
+        assertEquals("\"e-5\"", retagged.getEtag());
+        assertEquals(applied.getVersion(), retagged.getVersion());
+        assertSame(applied.getRoster(), retagged.getRoster());
+        assertEquals(1, cache.stats().deltas());
+        assertEquals(2, cache.stats().notModified());
+    }
+
+    @Test
+    void testLoadsLandWhenEveryLoadRacesALocalWrite() {
+        List<Employee> upstream = new ArrayList<>(List.of(createEmployee("1", "Alice")));
+        RosterLoader racing = () -> {
+            List<Employee> response = List.copyOf(upstream);
+            // a create through this service lands after the upstream answered but before the response is published
+            Employee created = createEmployee("local-" + loads.incrementAndGet(), "Local");
+            upstream.add(created);
+            cache.onCreated(created);
+            return response;
+        };
+
+        for (int i = 1; i <= 5; i++) {
+            EmployeeSnapshot snapshot = cache.get(racing);
+
+            assertEquals(clock.instant(), snapshot.getLoadedAt());
+            assertEquals(
+                    upstream.stream().map(Employee::getId).toList(),
+                    snapshot.getEmployees().stream().map(Employee::getId).toList());
+            assertSame(snapshot, cache.peek());
+            clock.advance(Duration.ofMinutes(1));
+        }
+        assertEquals(5, cache.stats().refreshes());
+        assertEquals(5, cache.stats().misses());
+    }
+
+    @Test
+    void testRevalidationLandsWhenEveryLoadRacesALocalWrite() {
+        RosterLoader racing = new RosterLoader() {
+            @Override
+            public List<Employee> load() {
+                throw new AssertionError("loads must be conditional");
+            }
+
+            @Override
+            public VersionedRoster loadIfChanged(String etag) {
+                cache.onCreated(createEmployee("local-" + loads.incrementAndGet(), "Local"));
+                return etag == null
+                        ? new VersionedRoster(List.of(createEmployee("1", "Alice")), "\"v1\"")
+                        : VersionedRoster.notModified();
+            }
+        };
+        EmployeeSnapshot previous = cache.get(racing);
+        assertEquals(2, previous.size());
+
+        for (int i = 2; i <= 4; i++) {
+            clock.advance(Duration.ofMinutes(1));
+            EmployeeSnapshot snapshot = cache.get(racing);
+
+            assertEquals(clock.instant(), snapshot.getLoadedAt());
+            assertEquals("\"v1\"", snapshot.getEtag());
+            assertEquals(i + 1, snapshot.size());
+            assertTrue(snapshot.getVersion() > previous.getVersion());
+            previous = snapshot;
+        }
+        assertEquals(3, cache.stats().notModified());
+    }
+
+    @Test
+    void testExpiredSnapshotIsServedWhenThrottled() {
+        EmployeeSnapshot loaded = cache.get(loader("Alice"));
+        clock.advance(Duration.ofMinutes(5));
+        RosterLoader throttled = () -> {
+            throw new UpstreamThrottledException("throttled", Duration.ofSeconds(30));
+        };
+
+        assertSame(loaded, cache.get(throttled));
+        assertEquals(1, cache.stats().staleServedWhenThrottled());
+    }
+
+    @Test
+    void testFailedLoadPropagatesToCaller() {
+        RosterLoader failing = () -> {
+            throw new IllegalStateException("upstream down");
+        };
+
+        assertThrows(IllegalStateException.class, () -> cache.get(failing));
+        assertEquals(1, cache.stats().refreshFailures());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
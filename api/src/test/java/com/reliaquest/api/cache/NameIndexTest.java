@@ -0,0 +1,110 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    private static final String[] SYLLABLES = {"an", "der", "son", "li", "ma", "ria", "jo", "han", "nes", "ke"};
+
+    private Employee createEmployee(String id, String name) {
+        Employee emp = new Employee();
+        emp.setId(id);
+        emp.setEmployee_name(name);
+        return emp;
+    }
+
+    private List<Employee> linearScan(List<Employee> employees, String fragment) {
+        return employees.stream()
+                .filter(emp ->
+                        emp.getEmployee_name().toLowerCase(Locale.ROOT).contains(fragment.toLowerCase(Locale.ROOT)))
+                .collect(Collectors.toList());
+    }
+
+    private List<Employee> randomRoster(int size) {
+        Random random = new Random(11);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int s = 0; s < 2 + random.nextInt(3); s++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+            employees.add(createEmployee(String.valueOf(i), name.toString()));
+        }
+        return employees;
+    }
+
+    @Test
+    void testSearchMatchesLinearScan() {
+        List<Employee> employees = randomRoster(2000);
+        NameIndex index = NameIndex.build(employees);
+
+        for (String fragment : List.of("a", "li", "son", "DERSON", "anderson", "mariajo", "zzz", "")) {
+            assertEquals(linearScan(employees, fragment), index.search(fragment), fragment);
+        }
+    }
+
+    @Test
+    void testSearchPagesInRosterOrder() {
+        List<Employee> employees = randomRoster(500);
+        NameIndex index = NameIndex.build(employees);
+        List<Employee> all = linearScan(employees, "son");
+
+        assertEquals(all.subList(10, 20), index.search("son", 10, 10));
+        assertTrue(index.search("son", all.size(), 10).isEmpty());
+    }
+
+    @Test
+    void testPlusAndMinusAreVisibleToSearch() {
+        List<Employee> employees = new ArrayList<>(List.of(
+                createEmployee("1", "Alice Anderson"),
+                createEmployee("2", "Bob Anders"),
+                createEmployee("3", "Carol Smith")));
+        ColumnarRoster roster = ColumnarRoster.of(employees);
+        NameIndex index = NameIndex.build(roster);
+
+        ColumnarRoster added = roster.plus(createEmployee("4", "Dave Sanders"));
+        ColumnarRoster removed = added.minus(added.rowOf("2"));
+        NameIndex patched = index.over(added).over(removed);
+
+        assertEquals(
+                List.of("Alice Anderson", "Dave Sanders"),
+                patched.search("nders").stream().map(Employee::getEmployee_name).collect(Collectors.toList()));
+        assertEquals(2, index.search("nders").size());
+        assertEquals(
+                List.of("Alice Anderson"),
+                patched.over(removed.minus(removed.rowOf("4"))).search("nders").stream()
+                        .map(Employee::getEmployee_name)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testOverlayIsCompactedPastThreshold() {
+        ColumnarRoster roster = ColumnarRoster.of(List.of());
+        NameIndex index = NameIndex.build(roster);
+        List<Employee> added = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Employee employee = createEmployee(String.valueOf(i), "Employee " + i);
+            added.add(employee);
+            roster = roster.plus(employee);
+            index = index.over(roster);
+        }
+
+        assertEquals(linearScan(added, "ee 29"), index.search("ee 29"));
+    }
+
+    @Test
+    void testNullNamesNeverMatch() {
+        NameIndex index = NameIndex.build(List.of(createEmployee("1", null), createEmployee("2", "Ann")));
+
+        assertEquals(1, index.search("an").size());
+    }
+}
@@ -0,0 +1,117 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private Employee createEmployee(String id, String name, Integer salary) {
+        Employee emp = new Employee();
+        emp.setId(id);
+        emp.setEmployee_name(name);
+        emp.setEmployee_salary(salary);
+        return emp;
+    }
+
+    private List<String> expectedTop(List<Employee> employees, int limit) {
+        return employees.stream()
+                .filter(emp -> emp.getEmployee_salary() != null)
+                .sorted(Comparator.comparing(Employee::getEmployee_salary).reversed())
+                .limit(limit)
+                .map(Employee::getEmployee_name)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testBuildMatchesFullSort() {
+        Random random = new Random(7);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            employees.add(createEmployee(String.valueOf(i), "Emp" + i, random.nextInt(500)));
+        }
+
+        SalaryIndex index = SalaryIndex.build(employees, 10);
+
+        assertEquals(expectedTop(employees, 10), index.topEarnerNames(10));
+        assertEquals(expectedTop(employees, 3), index.topEarnerNames(3));
+        assertEquals(
+                employees.stream().mapToInt(Employee::getEmployee_salary).max().getAsInt(), index.highestSalary());
+    }
+
+    @Test
+    void testEmptyRosterHasZeroHighestSalary() {
+        SalaryIndex index = SalaryIndex.build(List.of(), 10);
+
+        assertEquals(0, index.highestSalary());
+        assertTrue(index.topEarnerNames(10).isEmpty());
+    }
+
+    @Test
+    void testNullSalariesAreIgnored() {
+        List<Employee> employees = List.of(createEmployee("1", "A", null), createEmployee("2", "B", 10));
+
+        SalaryIndex index = SalaryIndex.build(employees, 10);
+
+        assertEquals(List.of("B"), index.topEarnerNames(10));
+    }
+
+    @Test
+    void testPlusInsertsInOrderAndEvictsWeakest() {
+        List<Employee> employees =
+                List.of(createEmployee("1", "A", 100), createEmployee("2", "B", 300), createEmployee("3", "C", 200));
+        SalaryIndex index = SalaryIndex.build(employees, 3);
+
+        SalaryIndex patched = index.plus(createEmployee("4", "D", 250));
+
+        assertEquals(List.of("B", "D", "C"), patched.topEarnerNames(3));
+        assertEquals(List.of("B", "C", "A"), index.topEarnerNames(3));
+    }
+
+    @Test
+    void testMinusRebuildsWhenTopEarnerLeaves() {
+        List<Employee> employees = new ArrayList<>(List.of(
+                createEmployee("1", "A", 100),
+                createEmployee("2", "B", 300),
+                createEmployee("3", "C", 200),
+                createEmployee("4", "D", 50)));
+        SalaryIndex index = SalaryIndex.build(employees, 2);
+
+        employees.remove(1);
+        SalaryIndex patched = index.minus("2", ColumnarRoster.of(employees));
+
+        assertEquals(List.of("C", "A"), patched.topEarnerNames(2));
+        assertEquals(200, patched.highestSalary());
+    }
+
+    @Test
+    void testMinusOutsideTopKeepsIndex() {
+        List<Employee> employees = new ArrayList<>(
+                List.of(createEmployee("1", "A", 100), createEmployee("2", "B", 300), createEmployee("3", "C", 200)));
+        SalaryIndex index = SalaryIndex.build(employees, 2);
+
+        employees.remove(0);
+
+        assertSame(index, index.minus("1", ColumnarRoster.of(employees)));
+    }
+
+    @Test
+    void testSnapshotServesTopNBeyondCapacity() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 1; i <= 15; i++) {
+            employees.add(createEmployee(String.valueOf(i), "Emp" + i, 1000 + i));
+        }
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(1, employees, Instant.now(), 5);
+
+        assertEquals(expectedTop(employees, 12), snapshot.topEarnerNames(12));
+        assertEquals(expectedTop(employees, 3), snapshot.topEarnerNames(3));
+        assertEquals(1015, snapshot.highestSalary());
+    }
+}
@@ -0,0 +1,239 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.VersionedRoster;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+class AsyncEmployeeClientTest {
+
+    private HttpServer server;
+
+    private AsyncEmployeeClient client;
+
+    private UpstreamRateLimiter rateLimiter;
+
+    private final AtomicInteger throttleNext = new AtomicInteger();
+
+    private final AtomicInteger gzipped = new AtomicInteger();
+
+    private String baseUrl;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/employee", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getQuery();
+            int status = 200;
+            String body;
+            if (throttleNext.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                status = 429;
+                body = "";
+                exchange.getResponseHeaders().add("Retry-After", "0");
+            } else if (query != null && query.endsWith("cursor=")) {
+                body = "{\"data\":[{\"id\":\"1\",\"employee_name\":\"Alice\"}],\"status\":\"ok\"}";
+                exchange.getResponseHeaders().add(AsyncEmployeeClient.NEXT_CURSOR_HEADER, "1");
+            } else if (query != null && query.endsWith("cursor=1")) {
+                body = "{\"data\":[{\"id\":\"2\",\"employee_name\":\"Bob\"}],\"status\":\"ok\"}";
+            } else if (path.endsWith("/changes") && query.contains("stale")) {
+                status = 410;
+                body = "{\"error\":\"gone\",\"status\":\"Failed to process request.\"}";
+            } else if (path.endsWith("/changes")) {
+                body = "{\"data\":["
+                        + "{\"version\":2,\"type\":\"CREATED\",\"employee\":{\"id\":\"2\",\"employee_name\":\"Bob\"}},"
+                        + "{\"version\":3,\"type\":\"DELETED\",\"employee\":{\"id\":\"1\",\"employee_name\":\"Alice\"}}"
+                        + "],\"status\":\"ok\"}";
+                exchange.getResponseHeaders().add("ETag", "\"e-3\"");
+            } else if (path.endsWith("/employee")) {
+                body = "{\"data\":[{\"id\":\"1\",\"employee_name\":\"Alice\",\"employee_salary\":5000}],"
+                        + "\"status\":\"Successfully processed request.\"}";
+            } else if (path.endsWith("/1")) {
+                body = "{\"data\":{\"id\":\"1\",\"employee_name\":\"Alice\"},\"status\":\"ok\"}";
+            } else {
+                status = 404;
+                body = "{\"status\":\"Successfully processed request.\"}";
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (bytes.length > 0 && "gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                    out.write(bytes);
+                }
+                bytes = compressed.toByteArray();
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                gzipped.incrementAndGet();
+            }
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                if (bytes.length > 0) {
+                    out.write(bytes);
+                }
+            }
+        });
+        server.start();
+
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee";
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new UpstreamRateLimiter(
+                100, Duration.ofSeconds(1), Duration.ofMillis(50), Duration.ofSeconds(1), System::nanoTime);
+        client = new AsyncEmployeeClient(
+                HttpClient.newHttpClient(),
+                new ObjectMapper(),
+                baseUrl,
+                Duration.ofSeconds(2),
+                rateLimiter,
+                new UpstreamRetryPolicy(
+                        3, Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofSeconds(5), Duration.ofMillis(100)),
+                0,
+                true,
+                true,
+                new UpstreamMetrics(meterRegistry, baseUrl));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testFetchAll() {
+        List<Employee> employees = client.fetchAll().join();
+
+        assertEquals(1, employees.size());
+        assertEquals("Alice", employees.get(0).getEmployee_name());
+        assertEquals(5000, employees.get(0).getEmployee_salary());
+    }
+
+    @Test
+    void testGzipResponsesAreInflated() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new GzipDecodingInterceptor());
+
+        List<Employee> employees = client.fetchAll().join();
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/1", String.class);
+
+        assertEquals("Alice", employees.get(0).getEmployee_name());
+        assertTrue(response.getBody().contains("\"employee_name\":\"Alice\""));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(2, gzipped.get());
+    }
+
+    @Test
+    void testFetchAllFollowsCursorPages() {
+        AsyncEmployeeClient pagingClient = new AsyncEmployeeClient(
+                HttpClient.newHttpClient(),
+                new ObjectMapper(),
+                baseUrl,
+                Duration.ofSeconds(2),
+                rateLimiter,
+                new UpstreamRetryPolicy(
+                        3, Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofSeconds(5), Duration.ofMillis(100)),
+                1,
+                true,
+                true,
+                new UpstreamMetrics(meterRegistry, baseUrl));
+
+        List<Employee> employees = pagingClient.fetchAll().join();
+
+        assertEquals(2, employees.size());
+        assertEquals("Bob", employees.get(1).getEmployee_name());
+    }
+
+    @Test
+    void testFetchChangesAndReloadWhenGone() {
+        VersionedRoster changes = client.fetchAllIfChanged("\"e-1\"").join();
+        VersionedRoster reloaded = client.fetchAllIfChanged("\"stale-1\"").join();
+
+        assertTrue(changes.isChanges());
+        assertEquals("\"e-3\"", changes.etag());
+        assertEquals(
+                List.of("CREATED 2", "DELETED 1"),
+                changes.changes().stream()
+                        .map(change ->
+                                change.getType() + " " + change.getEmployee().getId())
+                        .toList());
+        assertFalse(reloaded.isChanges());
+        assertEquals("Alice", reloaded.employees().get(0).getEmployee_name());
+    }
+
+    @Test
+    void testFetchById() {
+        Employee employee = client.fetchById("1").join();
+
+        assertEquals("Alice", employee.getEmployee_name());
+    }
+
+    @Test
+    void testFetchByIdNotFound() {
+        CompletionException ex = assertThrows(
+                CompletionException.class, () -> client.fetchById("2").join());
+
+        assertInstanceOf(HttpClientErrorException.NotFound.class, ex.getCause());
+    }
+
+    @Test
+    void testCallsAreTimedByRouteAndStatus() {
+        client.fetchAll().join();
+        client.fetchById("1").join();
+        assertThrows(CompletionException.class, () -> client.fetchById("2").join());
+
+        assertEquals(1, upstreamTimer("/", "200").count());
+        assertEquals(1, upstreamTimer("/{id}", "200").count());
+        assertEquals(1, upstreamTimer("/{id}", "404").count());
+    }
+
+    private Timer upstreamTimer(String uri, String status) {
+        return meterRegistry
+                .get(UpstreamMetrics.TIMER)
+                .tags("client", "async", "method", "GET", "uri", uri, "status", status)
+                .timer();
+    }
+
+    @Test
+    void testThrottledRequestIsRetried() {
+        throttleNext.set(1);
+
+        List<Employee> employees = client.fetchAll().join();
+
+        assertEquals(1, employees.size());
+        assertEquals(1, rateLimiter.stats().throttled());
+        assertEquals(1, rateLimiter.stats().retried());
+    }
+
+    @Test
+    void testPersistentThrottlingFailsWithTooManyRequests() {
+        throttleNext.set(10);
+
+        CompletionException ex =
+                assertThrows(CompletionException.class, () -> client.fetchAll().join());
+
+        assertInstanceOf(HttpClientErrorException.TooManyRequests.class, ex.getCause());
+        assertEquals(3, rateLimiter.stats().throttled());
+    }
+}
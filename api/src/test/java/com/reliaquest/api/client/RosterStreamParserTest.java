@@ -0,0 +1,91 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RosterStreamParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RosterStreamParser parser;
+
+    private List<Employee> employees;
+
+    private byte[] body;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        parser = new RosterStreamParser(objectMapper);
+        Random random = new Random(3);
+        employees = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Employee emp = new Employee();
+            emp.setId(String.valueOf(i));
+            emp.setEmployee_name((i % 7 == 0 ? "Anna " : "Bert ") + "Surname" + i);
+            emp.setEmployee_salary(i % 50 == 0 ? null : random.nextInt(1000));
+            emp.setEmployee_age(20 + random.nextInt(40));
+            emp.setEmployee_title("Title " + i);
+            emp.setEmployee_email("e" + i + "@company.com");
+            employees.add(emp);
+        }
+        ApiResponse<List<Employee>> response = new ApiResponse<>();
+        response.setData(employees);
+        response.setStatus("Successfully processed request.");
+        body = objectMapper.writeValueAsBytes(response);
+    }
+
+    private InputStream body() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Test
+    void testAggregatesMatchTheBoundSnapshot() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(1, employees, Instant.now(), 10);
+
+        assertEquals(snapshot.highestSalary(), parser.highestSalary(body()));
+        assertEquals(snapshot.topEarnerNames(10), parser.topEarnerNames(body(), 10));
+        assertEquals(snapshot.topEarnerNames(25), parser.topEarnerNames(body(), 25));
+    }
+
+    @Test
+    void testSearchMaterializesOnlyMatchesWithAllFields() {
+        List<Employee> expected =
+                EmployeeSnapshot.of(1, employees, Instant.now(), 10).searchByName("ANNA", 0, Integer.MAX_VALUE);
+
+        assertEquals(expected, parser.searchByName(body(), "ANNA"));
+    }
+
+    @Test
+    void testUnknownFieldsAndNestedValuesAreSkipped() {
+        String json = "{\"meta\":{\"page\":[1,2]},\"data\":[{\"id\":\"1\",\"extra\":{\"a\":[1]},"
+                + "\"employee_name\":\"Zed\",\"employee_salary\":10}],\"status\":\"ok\"}";
+
+        List<Employee> result =
+                parser.searchByName(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "zed");
+
+        assertEquals(1, result.size());
+        assertEquals(10, result.get(0).getEmployee_salary());
+        assertNull(result.get(0).getEmployee_age());
+    }
+
+    @Test
+    void testMissingDataYieldsEmptyResults() {
+        byte[] json = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(0, parser.highestSalary(new ByteArrayInputStream(json)));
+        assertTrue(parser.topEarnerNames(new ByteArrayInputStream(json), 10).isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpstreamRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private AtomicLong now;
+
+    private UpstreamRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000 * SECOND);
+        rateLimiter = new UpstreamRateLimiter(
+                2, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(8), now::get);
+    }
+
+    @Test
+    void testReservesQueueBehindEmptyBucket() {
+        assertEquals(0, rateLimiter.reserve(SECOND));
+        assertEquals(0, rateLimiter.reserve(SECOND));
+
+        assertEquals(SECOND / 2, rateLimiter.reserve(SECOND));
+        assertEquals(SECOND, rateLimiter.reserve(SECOND));
+        assertEquals(-1, rateLimiter.reserve(SECOND));
+        assertEquals(1, rateLimiter.stats().shed());
+        assertEquals(2, rateLimiter.stats().delayed());
+    }
+
+    @Test
+    void testThrottleBlocksForRetryAfterAndLearnsBudget() {
+        rateLimiter.reserve(SECOND);
+        rateLimiter.onSuccess();
+        rateLimiter.reserve(SECOND);
+        rateLimiter.onSuccess();
+        rateLimiter.onSuccess();
+
+        rateLimiter.onThrottled(Duration.ofSeconds(30));
+
+        assertEquals(0, rateLimiter.availablePermits());
+        assertEquals(-1, rateLimiter.reserve(10 * SECOND));
+        assertEquals(30 * SECOND, rateLimiter.reserve(30 * SECOND));
+
+        now.addAndGet(30 * SECOND);
+        assertEquals(2, rateLimiter.availablePermits());
+    }
+
+    @Test
+    void testPenaltyGrowsWithoutRetryAfter() {
+        rateLimiter.onThrottled(null);
+        assertEquals(Duration.ofSeconds(1), rateLimiter.retryAfter());
+
+        now.addAndGet(SECOND);
+        rateLimiter.onThrottled(null);
+        assertEquals(Duration.ofSeconds(2), rateLimiter.retryAfter());
+
+        now.addAndGet(2 * SECOND);
+        rateLimiter.onSuccess();
+        rateLimiter.onThrottled(null);
+        assertEquals(Duration.ofSeconds(1), rateLimiter.retryAfter());
+    }
+
+    @Test
+    void testConcurrentThrottlesCountAsOneWindow() {
+        rateLimiter.onThrottled(Duration.ofSeconds(5));
+        rateLimiter.onThrottled(Duration.ofSeconds(60));
+
+        assertEquals(Duration.ofSeconds(5), rateLimiter.retryAfter());
+        assertEquals(2, rateLimiter.stats().throttled());
+    }
+
+    @Test
+    void testParseRetryAfter() {
+        assertEquals(Duration.ofSeconds(42), UpstreamRetryPolicy.parseRetryAfter("42"));
+        assertEquals(Duration.ZERO, UpstreamRetryPolicy.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertNull(UpstreamRetryPolicy.parseRetryAfter("soon"));
+        assertNull(UpstreamRetryPolicy.parseRetryAfter(null));
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class UpstreamRetryInterceptorTest {
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final MockClientHttpRequest request =
+            new MockClientHttpRequest(HttpMethod.GET, URI.create("http://upstream/api/v1/employee"));
+
+    private final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+
+    private static UpstreamRetryPolicy policy(Duration initialBackoff, Duration maxBlockingWait) {
+        return new UpstreamRetryPolicy(3, initialBackoff, initialBackoff, Duration.ofSeconds(10), maxBlockingWait);
+    }
+
+    private static UpstreamRateLimiter rateLimiter(int capacity, Duration refillPeriod) {
+        return new UpstreamRateLimiter(capacity, refillPeriod, Duration.ofSeconds(1), Duration.ofSeconds(90));
+    }
+
+    @Test
+    void testShortLimiterWaitIsServedInline() throws IOException {
+        UpstreamRetryInterceptor interceptor = new UpstreamRetryInterceptor(
+                rateLimiter(1, Duration.ofMillis(20)), policy(Duration.ofMillis(10), Duration.ofMillis(500)));
+        when(execution.execute(request, NO_BODY))
+                .thenAnswer(invocation -> new MockClientHttpResponse(NO_BODY, HttpStatus.OK));
+
+        assertEquals(
+                HttpStatus.OK,
+                interceptor.intercept(request, NO_BODY, execution).getStatusCode());
+        assertEquals(
+                HttpStatus.OK,
+                interceptor.intercept(request, NO_BODY, execution).getStatusCode());
+        verify(execution, times(2)).execute(request, NO_BODY);
+    }
+
+    @Test
+    void testLongRetryAfterShedsInsteadOfBlocking() throws IOException {
+        UpstreamRateLimiter rateLimiter = rateLimiter(10, Duration.ofSeconds(1));
+        UpstreamRetryInterceptor interceptor =
+                new UpstreamRetryInterceptor(rateLimiter, policy(Duration.ofMillis(10), Duration.ofMillis(200)));
+        MockClientHttpResponse throttled = new MockClientHttpResponse(NO_BODY, HttpStatus.TOO_MANY_REQUESTS);
+        throttled.getHeaders().set(HttpHeaders.RETRY_AFTER, "5");
+        when(execution.execute(request, NO_BODY)).thenReturn(throttled);
+
+        long started = System.nanoTime();
+        UpstreamThrottledException ex = assertThrows(
+                UpstreamThrottledException.class, () -> interceptor.intercept(request, NO_BODY, execution));
+
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(2));
+        assertTrue(ex.getRetryAfter().compareTo(Duration.ofSeconds(4)) > 0, ex.getRetryAfter()::toString);
+        assertEquals(1, rateLimiter.stats().shed());
+        verify(execution).execute(request, NO_BODY);
+    }
+
+    @Test
+    void testBackoffPastBlockingBudgetSurfacesFailure() throws IOException {
+        UpstreamRetryPolicy retryPolicy = mock(UpstreamRetryPolicy.class);
+        when(retryPolicy.getDeadline()).thenReturn(Duration.ofSeconds(10));
+        when(retryPolicy.getMaxBlockingWait()).thenReturn(Duration.ofMillis(50));
+        when(retryPolicy.isIdempotent(HttpMethod.GET)).thenReturn(true);
+        when(retryPolicy.nextPauseNanos(eq(1), anyLong(), eq(false))).thenReturn(TimeUnit.SECONDS.toNanos(2));
+        UpstreamRetryInterceptor interceptor =
+                new UpstreamRetryInterceptor(rateLimiter(10, Duration.ofSeconds(1)), retryPolicy);
+        IOException failure = new IOException("connection reset");
+        when(execution.execute(request, NO_BODY)).thenThrow(failure);
+
+        assertSame(failure, assertThrows(IOException.class, () -> interceptor.intercept(request, NO_BODY, execution)));
+        verify(execution).execute(request, NO_BODY);
+    }
+
+    @Test
+    void testUnavailableWithinBudgetIsRetried() throws IOException {
+        UpstreamRetryInterceptor interceptor = new UpstreamRetryInterceptor(
+                rateLimiter(10, Duration.ofSeconds(1)), policy(Duration.ofMillis(10), Duration.ofMillis(500)));
+        ClientHttpResponse unavailable = new MockClientHttpResponse(NO_BODY, HttpStatus.SERVICE_UNAVAILABLE);
+        ClientHttpResponse ok = new MockClientHttpResponse(NO_BODY, HttpStatus.OK);
+        when(execution.execute(request, NO_BODY)).thenReturn(unavailable, ok);
+
+        assertSame(ok, interceptor.intercept(request, NO_BODY, execution));
+        verify(execution, times(2)).execute(request, NO_BODY);
+    }
+}
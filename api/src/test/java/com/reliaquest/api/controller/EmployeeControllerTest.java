@@ -4,8 +4,11 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.reliaquest.api.model.BulkItemResult;
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeBulkService;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +28,9 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private EmployeeBulkService bulkService;
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -94,6 +100,21 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).searchByName("Alice");
     }
 
+    @Test
+    void testSearchEmployeesByNamePage() throws Exception {
+        List<Employee> employees = Arrays.asList(createEmployee("3", "Alice", 7000, 30, "Lead", "meera@mail.com"));
+        when(employeeService.searchByName("Ali", 20, 10)).thenReturn(employees);
+
+        mockMvc.perform(get("/search")
+                        .param("name", "Ali")
+                        .param("offset", "20")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("Alice"));
+
+        verify(employeeService, times(1)).searchByName("Ali", 20, 10);
+    }
+
     @Test
     void testGetHighestSalary() throws Exception {
         when(employeeService.getHighestSalary()).thenReturn(10000);
@@ -149,4 +170,40 @@ class EmployeeControllerTest {
 
         verify(employeeService, times(1)).deleteEmployeeById("10");
     }
+
+    @Test
+    void testCreateEmployeesInBulk() throws Exception {
+        Employee created = createEmployee("5", "Bob", 8000, 30, "Lead", "bob@mail.com");
+        when(bulkService.createEmployees(anyList()))
+                .thenReturn(BulkResult.of(List.of(
+                        BulkItemResult.succeeded(0, created), BulkItemResult.failed(1, "salary must not be null"))));
+
+        mockMvc.perform(post("/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\":\"Bob\", \"salary\":8000, \"age\":30, \"title\":\"Lead\"},"
+                                + "{\"name\":\"Eve\", \"age\":30, \"title\":\"Lead\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].data.id").value("5"))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].error").value("salary must not be null"));
+
+        verify(bulkService, times(1)).createEmployees(anyList());
+    }
+
+    @Test
+    void testDeleteEmployeesInBulk() throws Exception {
+        when(bulkService.deleteEmployeesById(List.of("1", "2")))
+                .thenReturn(BulkResult.of(
+                        List.of(BulkItemResult.succeeded(0, "1"), BulkItemResult.failed(1, "not found"))));
+
+        mockMvc.perform(delete("/bulk").contentType(MediaType.APPLICATION_JSON).content("[\"1\", \"2\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].succeeded").value(true))
+                .andExpect(jsonPath("$.results[1].succeeded").value(false));
+
+        verify(bulkService, times(1)).deleteEmployeesById(List.of("1", "2"));
+        verify(employeeService, never()).deleteEmployeeById(anyString());
+    }
 }
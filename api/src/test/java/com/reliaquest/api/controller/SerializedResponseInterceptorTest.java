@@ -0,0 +1,141 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeBulkService;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class SerializedResponseInterceptorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmployeeService employeeService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        employeeService = mock(EmployeeService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new EmployeeController(employeeService, mock(EmployeeBulkService.class)))
+                .addMappedInterceptors(
+                        new String[] {"/"},
+                        new SerializedResponseInterceptor(
+                                "getAll",
+                                EmployeeSnapshot::getEmployees,
+                                employeeService,
+                                objectMapper,
+                                256,
+                                meterRegistry))
+                .addMappedInterceptors(
+                        new String[] {"/highestSalary"},
+                        new SerializedResponseInterceptor(
+                                "highestSalary",
+                                EmployeeSnapshot::highestSalary,
+                                employeeService,
+                                objectMapper,
+                                256,
+                                meterRegistry))
+                .build();
+    }
+
+    private Employee createEmployee(String id, String name, int salary) {
+        Employee emp = new Employee();
+        emp.setId(id);
+        emp.setEmployee_name(name);
+        emp.setEmployee_salary(salary);
+        return emp;
+    }
+
+    private EmployeeSnapshot snapshot(long version, int size) {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            employees.add(createEmployee(String.valueOf(i), "Emp" + i, 1000 + i));
+        }
+        return EmployeeSnapshot.of(version, employees, Instant.now(), 10);
+    }
+
+    private double renders(String endpoint) {
+        return meterRegistry
+                .get("employee.response.cache.renders")
+                .tag("endpoint", endpoint)
+                .counter()
+                .count();
+    }
+
+    @Test
+    void testBodyIsSerializedOncePerSnapshot() throws Exception {
+        EmployeeSnapshot first = snapshot(1, 2);
+        when(employeeService.currentSnapshot()).thenReturn(first);
+
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].employee_name").value("Emp1"));
+        mockMvc.perform(get("/highestSalary"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1001"));
+        mockMvc.perform(get("/highestSalary")).andExpect(content().string("1001"));
+        when(employeeService.currentSnapshot()).thenReturn(snapshot(2, 3));
+        mockMvc.perform(get("/highestSalary")).andExpect(content().string("1002"));
+
+        assertEquals(1, renders("getAll"));
+        assertEquals(2, renders("highestSalary"));
+        verify(employeeService, never()).getAllEmployees();
+        verify(employeeService, never()).getHighestSalary();
+    }
+
+    @Test
+    void testLargeBodyIsServedGzippedWhenAccepted() throws Exception {
+        when(employeeService.currentSnapshot()).thenReturn(snapshot(1, 50));
+
+        byte[] plain = mockMvc.perform(get("/"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        byte[] gzipped = mockMvc.perform(get("/").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        assertTrue(gzipped.length < plain.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertArrayEquals(plain, in.readAllBytes());
+        }
+        assertEquals(50, objectMapper.readTree(plain).size());
+    }
+
+    @Test
+    void testControllerAnswersWhenCacheIsOff() throws Exception {
+        when(employeeService.currentSnapshot()).thenReturn(null);
+        when(employeeService.getHighestSalary()).thenReturn(7000);
+
+        mockMvc.perform(get("/highestSalary"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("7000"));
+
+        verify(employeeService).getHighestSalary();
+    }
+}
@@ -0,0 +1,218 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.client.AsyncEmployeeClient;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BulkItemResult;
+import com.reliaquest.api.model.BulkResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBulkServiceTest {
+
+    @Mock
+    private AsyncEmployeeClient asyncClient;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeRosterCache rosterCache;
+
+    private EmployeeByIdCache byIdCache;
+
+    private EmployeeBulkService bulkService;
+
+    @BeforeEach
+    void setUp() {
+        rosterCache = new EmployeeRosterCache(Duration.ofMinutes(1), Duration.ZERO, 10, false, Runnable::run);
+        byIdCache = new EmployeeByIdCache(100, Duration.ofMinutes(1));
+        bulkService = new EmployeeBulkService(asyncClient, employeeService, rosterCache, byIdCache, 2, 2, 100);
+    }
+
+    private EmployeeInput createInput(String name, Integer salary) {
+        EmployeeInput input = new EmployeeInput();
+        input.setName(name);
+        input.setSalary(salary);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private Employee createEmployee(String id, String name) {
+        Employee emp = new Employee();
+        emp.setId(id);
+        emp.setEmployee_name(name);
+        emp.setEmployee_salary(1000);
+        return emp;
+    }
+
+    private static <T> ApiResponse<T> handled(T data) {
+        ApiResponse<T> response = new ApiResponse<>();
+        response.setData(data);
+        response.setStatus("Successfully processed request.");
+        return response;
+    }
+
+    private static <T> ApiResponse<T> rejected(String error) {
+        ApiResponse<T> response = new ApiResponse<>();
+        response.setStatus("Failed to process request.");
+        response.setError(error);
+        return response;
+    }
+
+    /** Answers every chunk with one created employee per valid input, named after it. */
+    private CompletableFuture<List<ApiResponse<Employee>>> createdFrom(List<EmployeeInput> chunk) {
+        List<ApiResponse<Employee>> responses = new ArrayList<>();
+        for (EmployeeInput input : chunk) {
+            responses.add(
+                    input.getSalary() == null
+                            ? rejected("salary must not be null")
+                            : handled(createEmployee("id-" + input.getName(), input.getName())));
+        }
+        return CompletableFuture.completedFuture(responses);
+    }
+
+    @Test
+    void testCreateChunksAndReportsItemsInOrder() {
+        when(asyncClient.createAll(anyList())).thenAnswer(invocation -> createdFrom(invocation.getArgument(0)));
+        List<EmployeeInput> inputs = List.of(
+                createInput("A", 100),
+                createInput("B", null),
+                createInput("C", 300),
+                createInput("D", 400),
+                createInput("E", 500));
+
+        BulkResult<Employee> result = bulkService.createEmployees(inputs);
+
+        verify(asyncClient, times(3)).createAll(anyList());
+        assertEquals(4, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(
+                List.of(0, 1, 2, 3, 4),
+                result.getResults().stream().map(BulkItemResult::getIndex).collect(Collectors.toList()));
+        assertEquals("salary must not be null", result.getResults().get(1).getError());
+        assertEquals("id-E", result.getResults().get(4).getData().getId());
+        assertEquals("C", byIdCache.get("id-C", id -> null).getEmployee_name());
+    }
+
+    @Test
+    void testFailedChunkOnlyFailsItsOwnItems() {
+        when(asyncClient.createAll(anyList())).thenAnswer(invocation -> {
+            List<EmployeeInput> chunk = invocation.getArgument(0);
+            if (chunk.get(0).getName().equals("C")) {
+                return CompletableFuture.failedFuture(
+                        HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "throttled", null, null, null));
+            }
+            return createdFrom(chunk);
+        });
+        List<EmployeeInput> inputs = List.of(
+                createInput("A", 100),
+                createInput("B", 200),
+                createInput("C", 300),
+                createInput("D", 400),
+                createInput("E", 500));
+
+        BulkResult<Employee> result = bulkService.createEmployees(inputs);
+
+        assertEquals(3, result.getSucceeded());
+        assertFalse(result.getResults().get(2).isSucceeded());
+        assertFalse(result.getResults().get(3).isSucceeded());
+        assertTrue(result.getResults().get(2).getError().contains("429"));
+        assertTrue(result.getResults().get(4).isSucceeded());
+    }
+
+    @Test
+    void testCreatedEmployeesArePatchedIntoRoster() {
+        EmployeeSnapshot loaded = rosterCache.get(() -> List.of(createEmployee("1", "Existing")));
+        when(asyncClient.createAll(anyList())).thenAnswer(invocation -> createdFrom(invocation.getArgument(0)));
+
+        bulkService.createEmployees(List.of(createInput("A", 100), createInput("B", 200), createInput("C", 300)));
+
+        EmployeeSnapshot patched = rosterCache.getIfFresh();
+        assertEquals(1, loaded.size());
+        assertEquals(4, patched.size());
+        assertEquals("B", patched.findById("id-B").getEmployee_name());
+    }
+
+    @Test
+    void testDeleteResolvesNamesAndSkipsUnknownIds() {
+        rosterCache.get(() -> List.of(createEmployee("1", "Alice"), createEmployee("2", "Bob")));
+        when(employeeService.resolveNames(List.of("1", "missing", "2"))).thenReturn(Map.of("1", "Alice", "2", "Bob"));
+        when(asyncClient.deleteAllByName(List.of("Alice", "Bob")))
+                .thenReturn(CompletableFuture.completedFuture(List.of(handled(true), handled(false))));
+
+        BulkResult<String> result = bulkService.deleteEmployeesById(List.of("1", "missing", "2"));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals("1", result.getResults().get(0).getData());
+        assertFalse(result.getResults().get(1).isSucceeded());
+        assertFalse(result.getResults().get(2).isSucceeded());
+        assertNull(rosterCache.getIfFresh());
+        EmployeeSnapshot reloaded = rosterCache.get(() -> List.of(createEmployee("2", "Bob")));
+        assertNull(reloaded.findById("1"));
+        assertNotNull(reloaded.findById("2"));
+    }
+
+    @Test
+    void testDeleteOfSharedNameIsNotPatchedById() {
+        rosterCache.get(() -> List.of(createEmployee("1", "Sam"), createEmployee("2", "Sam")));
+        when(employeeService.resolveNames(List.of("2"))).thenReturn(Map.of("2", "Sam"));
+        when(asyncClient.deleteAllByName(List.of("Sam")))
+                .thenReturn(CompletableFuture.completedFuture(List.of(handled(true))));
+
+        BulkResult<String> result = bulkService.deleteEmployeesById(List.of("2"));
+        // The upstream removed the first "Sam", not the ID that was asked for.
+        EmployeeSnapshot reloaded = rosterCache.get(() -> List.of(createEmployee("2", "Sam")));
+
+        assertEquals(1, result.getSucceeded());
+        assertNull(reloaded.findById("1"));
+        assertEquals("Sam", reloaded.findById("2").getEmployee_name());
+    }
+
+    @Test
+    void testShortAnswerFailsTheChunkInsteadOfTheRequest() {
+        rosterCache.get(() -> List.of(createEmployee("1", "Alice"), createEmployee("2", "Bob")));
+        when(employeeService.resolveNames(List.of("1", "2"))).thenReturn(Map.of("1", "Alice", "2", "Bob"));
+        when(asyncClient.deleteAllByName(List.of("Alice", "Bob")))
+                .thenReturn(CompletableFuture.completedFuture(List.of(handled(true))));
+
+        BulkResult<String> result = bulkService.deleteEmployeesById(List.of("1", "2"));
+
+        assertEquals(0, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertTrue(result.getResults().get(1).getError().contains("1 results for a chunk of 2"));
+        assertNull(rosterCache.getIfFresh());
+    }
+
+    @Test
+    void testRejectsEmptyAndOversizedRequests() {
+        List<EmployeeInput> tooMany = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            tooMany.add(createInput("E" + i, 100));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> bulkService.createEmployees(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> bulkService.createEmployees(tooMany));
+        verifyNoInteractions(asyncClient);
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.client.AsyncEmployeeClient;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+
+class EmployeeLookupBatcherTest {
+
+    private ScheduledExecutorService scheduler;
+
+    private ExecutorService callers;
+
+    private AsyncEmployeeClient asyncClient;
+
+    private final AtomicInteger bulkLoads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        callers = Executors.newFixedThreadPool(16);
+        asyncClient = mock(AsyncEmployeeClient.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        callers.shutdownNow();
+    }
+
+    private Employee createEmployee(String id, String name) {
+        Employee emp = new Employee();
+        emp.setId(id);
+        emp.setEmployee_name(name);
+        return emp;
+    }
+
+    private EmployeeLookupBatcher batcher(int permits, int bulkThreshold) {
+        UpstreamRateLimiter rateLimiter =
+                new UpstreamRateLimiter(permits, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1));
+        return new EmployeeLookupBatcher(
+                Duration.ofMillis(200), 64, bulkThreshold, scheduler, rateLimiter, asyncClient);
+    }
+
+    private Supplier<CompletableFuture<EmployeeSnapshot>> roster(int size) {
+        return () -> {
+            bulkLoads.incrementAndGet();
+            List<Employee> employees = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                employees.add(createEmployee(String.valueOf(i), "Emp" + i));
+            }
+            return CompletableFuture.completedFuture(EmployeeSnapshot.of(1, employees, Instant.now(), 10));
+        };
+    }
+
+    private List<Future<Employee>> lookupConcurrently(EmployeeLookupBatcher batcher, List<String> ids) {
+        List<Future<Employee>> results = new ArrayList<>();
+        for (String id : ids) {
+            results.add(callers.submit(() -> batcher.lookup(id, roster(20))));
+        }
+        return results;
+    }
+
+    @Test
+    void testSingleLookupIsFetchedById() {
+        when(asyncClient.fetchById("3")).thenReturn(CompletableFuture.completedFuture(createEmployee("3", "Emp3")));
+        EmployeeLookupBatcher batcher = batcher(10, 8);
+
+        Employee result = batcher.lookup("3", roster(20));
+
+        assertEquals("Emp3", result.getEmployee_name());
+        assertEquals(0, bulkLoads.get());
+        assertEquals(1, batcher.stats().singleFetches());
+    }
+
+    @Test
+    void testBurstOfDistinctIdsIsResolvedFromOneRosterLoad() throws Exception {
+        EmployeeLookupBatcher batcher = batcher(100, 4);
+        List<String> ids = List.of("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+
+        List<Future<Employee>> results = lookupConcurrently(batcher, ids);
+
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals("Emp" + ids.get(i), results.get(i).get().getEmployee_name());
+        }
+        assertTrue(bulkLoads.get() <= 3, "expected at most a few bulk loads but got " + bulkLoads.get());
+        verifyNoInteractions(asyncClient);
+    }
+
+    @Test
+    void testBulkPathReportsMissingIdsAsNotFound() throws Exception {
+        EmployeeLookupBatcher batcher = batcher(0, 8);
+
+        List<Future<Employee>> results = lookupConcurrently(batcher, List.of("1", "missing"));
+
+        assertEquals("Emp1", results.get(0).get().getEmployee_name());
+        Exception ex = assertThrows(Exception.class, () -> results.get(1).get());
+        assertInstanceOf(HttpClientErrorException.NotFound.class, ex.getCause());
+    }
+
+    @Test
+    void testDisabledWithZeroWindow() {
+        EmployeeLookupBatcher disabled = new EmployeeLookupBatcher(
+                Duration.ZERO, 64, 8, scheduler, mock(UpstreamRateLimiter.class), asyncClient);
+
+        assertFalse(disabled.isEnabled());
+    }
+}
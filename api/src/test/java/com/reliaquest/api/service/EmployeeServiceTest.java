@@ -3,12 +3,20 @@ package com.reliaquest.api.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.AsyncEmployeeClient;
+import com.reliaquest.api.client.RosterStreamParser;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,9 +26,13 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,12 +41,30 @@ class EmployeeServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private AsyncEmployeeClient asyncClient;
+
+    @Mock
+    private EmployeeLookupBatcher lookupBatcher;
+
     private EmployeeService employeeService;
 
     @BeforeEach
     void setUp() {
         String testBaseUrl = "http://localhost:8112/api/v1";
-        employeeService = new EmployeeService(restTemplate, testBaseUrl);
+        EmployeeRosterCache rosterCache =
+                new EmployeeRosterCache(Duration.ofMinutes(1), Duration.ZERO, 10, false, Runnable::run);
+        employeeService = new EmployeeService(
+                restTemplate,
+                testBaseUrl,
+                0,
+                true,
+                false,
+                rosterCache,
+                asyncClient,
+                new EmployeeByIdCache(100, Duration.ofMinutes(1)),
+                lookupBatcher,
+                new RosterStreamParser(new ObjectMapper()));
     }
 
     @Test
@@ -91,6 +121,111 @@ class EmployeeServiceTest {
         assertEquals("Alice", result.get(0).getEmployee_name());
     }
 
+    @Test
+    void testGetAllEmployees_servedFromCache() {
+        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(Arrays.asList(createEmployee("1", "Alice", 5000)));
+
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<List<Employee>>>>any()))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+
+        employeeService.getAllEmployees();
+        List<Employee> result = employeeService.getAllEmployees();
+
+        assertEquals(1, result.size());
+        verify(restTemplate, times(1))
+                .exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<List<Employee>>>>any());
+    }
+
+    @Test
+    void testGetAllEmployees_followsCursorPages() {
+        EmployeeService pagingService = new EmployeeService(
+                restTemplate,
+                "http://localhost:8112/api/v1",
+                1,
+                true,
+                false,
+                new EmployeeRosterCache(Duration.ofMinutes(1), Duration.ZERO, 10, false, Runnable::run),
+                asyncClient,
+                new EmployeeByIdCache(100, Duration.ofMinutes(1)),
+                lookupBatcher,
+                new RosterStreamParser(new ObjectMapper()));
+        ApiResponse<List<Employee>> first = new ApiResponse<>();
+        first.setData(List.of(createEmployee("1", "Alice", 5000)));
+        ApiResponse<List<Employee>> second = new ApiResponse<>();
+        second.setData(List.of(createEmployee("2", "Bob", 6000)));
+        HttpHeaders firstHeaders = new HttpHeaders();
+        firstHeaders.add(AsyncEmployeeClient.NEXT_CURSOR_HEADER, "7");
+
+        when(restTemplate.exchange(
+                        endsWith("cursor="),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<List<Employee>>>>any()))
+                .thenReturn(new ResponseEntity<>(first, firstHeaders, HttpStatus.OK));
+        when(restTemplate.exchange(
+                        endsWith("cursor=7"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<List<Employee>>>>any()))
+                .thenReturn(ResponseEntity.ok(second));
+
+        List<Employee> result = pagingService.getAllEmployees();
+
+        assertEquals(
+                List.of("Alice", "Bob"),
+                result.stream().map(Employee::getEmployee_name).toList());
+    }
+
+    @Test
+    void testUncachedQueriesStreamTheUpstreamBody() {
+        EmployeeService streamingService = new EmployeeService(
+                restTemplate,
+                "http://localhost:8112/api/v1",
+                0,
+                false,
+                false,
+                new EmployeeRosterCache(Duration.ofMinutes(1), Duration.ZERO, 10, false, Runnable::run),
+                asyncClient,
+                new EmployeeByIdCache(100, Duration.ofMinutes(1)),
+                lookupBatcher,
+                new RosterStreamParser(new ObjectMapper()));
+        byte[] body = ("{\"data\":[{\"id\":\"1\",\"employee_name\":\"Alice\",\"employee_salary\":5000},"
+                        + "{\"id\":\"2\",\"employee_name\":\"Bob\",\"employee_salary\":7000}],"
+                        + "\"status\":\"Successfully processed request.\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        when(restTemplate.execute(
+                        eq("http://localhost:8112/api/v1"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ResponseExtractor<Object>>any()))
+                .thenAnswer(invocation -> invocation
+                        .<ResponseExtractor<Object>>getArgument(3)
+                        .extractData(new MockClientHttpResponse(body, HttpStatus.OK)));
+
+        assertEquals(7000, streamingService.getHighestSalary());
+        assertEquals(List.of("Bob", "Alice"), streamingService.getTop10HighestEarningEmployeeNames());
+        assertEquals(
+                List.of("1"),
+                streamingService.searchByName("ali").stream()
+                        .map(Employee::getId)
+                        .toList());
+        verify(restTemplate, never())
+                .exchange(
+                        anyString(),
+                        any(HttpMethod.class),
+                        any(),
+                        ArgumentMatchers.<ParameterizedTypeReference<Object>>any());
+    }
+
     @Test
     void testGetAllEmployees_nullBody() {
         ResponseEntity<ApiResponse<List<Employee>>> response = new ResponseEntity<>(null, HttpStatus.OK);
@@ -110,16 +245,83 @@ class EmployeeServiceTest {
     void testSearchByName_found() {
         Employee emp1 = createEmployee("1", "Alice", 5000);
         Employee emp2 = createEmployee("2", "Bob", 6000);
+        stubRoster(Arrays.asList(emp1, emp2));
 
-        EmployeeService spyService = Mockito.spy(employeeService);
-        doReturn(Arrays.asList(emp1, emp2)).when(spyService).getAllEmployees();
-
-        List<Employee> result = spyService.searchByName("ali");
+        List<Employee> result = employeeService.searchByName("ali");
 
         assertEquals(1, result.size());
         assertEquals("Alice", result.get(0).getEmployee_name());
     }
 
+    @Test
+    void testSearchByName_paged() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            employees.add(createEmployee(String.valueOf(i), "Anderson " + i, 1000 + i));
+        }
+        stubRoster(employees);
+
+        List<Employee> page = employeeService.searchByName("ANDER", 1, 2);
+
+        assertEquals(2, page.size());
+        assertEquals("Anderson 2", page.get(0).getEmployee_name());
+        assertEquals("Anderson 3", page.get(1).getEmployee_name());
+    }
+
+    private void stubRoster(List<Employee> employees) {
+        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(employees);
+
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<List<Employee>>>>any()))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+    }
+
+    @Test
+    void testRosterReloadIsConditional() {
+        EmployeeService uncached = new EmployeeService(
+                restTemplate,
+                "http://localhost:8112/api/v1",
+                0,
+                true,
+                false,
+                new EmployeeRosterCache(Duration.ZERO, Duration.ZERO, 10, false, Runnable::run),
+                asyncClient,
+                new EmployeeByIdCache(100, Duration.ofMinutes(1)),
+                lookupBatcher,
+                new RosterStreamParser(new ObjectMapper()));
+        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(List.of(createEmployee("1", "Alice", 5000)));
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<List<Employee>>>>any()))
+                .thenReturn(ResponseEntity.ok().eTag("\"r-1\"").body(apiResponse));
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        argThat((HttpEntity<?> request) -> request != null
+                                && request.getHeaders().getIfNoneMatch().contains("\"r-1\"")),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<List<Employee>>>>any()))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        List<Employee> first = uncached.getAllEmployees();
+        List<Employee> second = uncached.getAllEmployees();
+
+        assertEquals(first, second);
+        assertEquals(5000, uncached.getHighestSalary());
+        verify(restTemplate, times(3))
+                .exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<List<Employee>>>>any());
+    }
+
     @Test
     void testGetById_success() {
         Employee emp = createEmployee("1", "Alice", 5000);
@@ -140,6 +342,88 @@ class EmployeeServiceTest {
         assertEquals("Alice", result.getEmployee_name());
     }
 
+    @Test
+    void testGetById_servedFromRosterSnapshot() {
+        stubRoster(Arrays.asList(createEmployee("1", "Alice", 5000)));
+        employeeService.getAllEmployees();
+
+        Employee result = employeeService.getById("1");
+
+        assertEquals("Alice", result.getEmployee_name());
+        verify(restTemplate, never())
+                .exchange(
+                        contains("/1"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Employee>>>any());
+    }
+
+    @Test
+    void testGetById_cachedAfterFirstLookup() {
+        ApiResponse<Employee> apiResponse = new ApiResponse<>();
+        apiResponse.setData(createEmployee("1", "Alice", 5000));
+
+        when(restTemplate.exchange(
+                        contains("/1"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Employee>>>any()))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+
+        employeeService.getById("1");
+        Employee result = employeeService.getById("1");
+
+        assertEquals("Alice", result.getEmployee_name());
+        verify(restTemplate, times(1))
+                .exchange(
+                        contains("/1"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Employee>>>any());
+    }
+
+    @Test
+    void testGetById_batchedWhenEnabled() {
+        when(lookupBatcher.isEnabled()).thenReturn(true);
+        when(lookupBatcher.lookup(eq("1"), any())).thenReturn(createEmployee("1", "Alice", 5000));
+
+        Employee result = employeeService.getById("1");
+
+        assertEquals("Alice", result.getEmployee_name());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testGetById_notBatchedWhenCacheDisabled() {
+        EmployeeRosterCache rosterCache =
+                new EmployeeRosterCache(Duration.ofMinutes(1), Duration.ZERO, 10, false, Runnable::run);
+        EmployeeService uncached = new EmployeeService(
+                restTemplate,
+                "http://localhost:8112/api/v1",
+                0,
+                false,
+                false,
+                rosterCache,
+                asyncClient,
+                new EmployeeByIdCache(100, Duration.ofMinutes(1)),
+                lookupBatcher,
+                new RosterStreamParser(new ObjectMapper()));
+        ApiResponse<Employee> apiResponse = new ApiResponse<>();
+        apiResponse.setData(createEmployee("1", "Alice", 5000));
+        when(restTemplate.exchange(
+                        contains("/1"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Employee>>>any()))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+
+        Employee result = uncached.getById("1");
+
+        assertEquals("Alice", result.getEmployee_name());
+        verifyNoInteractions(lookupBatcher, asyncClient);
+        assertNull(rosterCache.peek());
+    }
+
     @Test
     void testGetById_nullBody() {
         ResponseEntity<ApiResponse<Employee>> response = new ResponseEntity<>(null, HttpStatus.OK);
@@ -162,12 +446,13 @@ class EmployeeServiceTest {
             employees.add(createEmployee(String.valueOf(i), "Emp" + i, 1000 + i));
         }
 
-        EmployeeService spyService = Mockito.spy(employeeService);
-        doReturn(employees).when(spyService).getAllEmployees();
+        stubRoster(employees);
 
-        List<String> top10 = spyService.getTop10HighestEarningEmployeeNames();
+        List<String> top10 = employeeService.getTop10HighestEarningEmployeeNames();
         assertEquals(10, top10.size());
         assertTrue(top10.get(0).startsWith("Emp"));
+        assertEquals("Emp15", top10.get(0));
+        assertEquals("Emp6", top10.get(9));
     }
 
     @Test
@@ -211,38 +496,100 @@ class EmployeeServiceTest {
         assertNull(result);
     }
 
-    @Test
-    void testDeleteEmployeeById_success() {
+    private void stubDelete(String name, boolean deleted) {
         ApiResponse<Boolean> apiResponse = new ApiResponse<>();
-        apiResponse.setData(true);
-
-        ResponseEntity<ApiResponse<Boolean>> response = new ResponseEntity<>(apiResponse, HttpStatus.OK);
+        apiResponse.setData(deleted);
 
         when(restTemplate.exchange(
-                        contains("/1"),
+                        eq("http://localhost:8112/api/v1"),
                         eq(HttpMethod.DELETE),
-                        isNull(),
+                        argThat((HttpEntity<?> request) -> Map.of("name", name).equals(request.getBody())),
                         ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Boolean>>>any()))
-                .thenReturn(response);
+                .thenReturn(ResponseEntity.ok(apiResponse));
+    }
+
+    @Test
+    void testDeleteEmployeeById_success() {
+        stubRoster(List.of(createEmployee("1", "Alice", 5000), createEmployee("2", "Bob", 6000)));
+        employeeService.getAllEmployees();
+        stubDelete("Alice", true);
 
         String result = employeeService.deleteEmployeeById("1");
+        stubRoster(List.of(createEmployee("2", "Bob", 6000)));
+
         assertEquals("Employee with id 1 deleted successfully", result);
+        verify(restTemplate, never())
+                .exchange(
+                        contains("/1"),
+                        eq(HttpMethod.GET),
+                        any(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Employee>>>any());
+        assertEquals(1, employeeService.getAllEmployees().size());
+    }
+
+    @Test
+    void testDeleteEmployeeById_sharedNameIsReconciledFromUpstream() {
+        stubRoster(List.of(createEmployee("1", "Sam", 5000), createEmployee("2", "Sam", 6000)));
+        employeeService.getAllEmployees();
+        stubDelete("Sam", true);
+
+        employeeService.deleteEmployeeById("2");
+        // The upstream removed the first "Sam", which is not the ID that was asked for.
+        stubRoster(List.of(createEmployee("2", "Sam", 6000)));
+
+        assertEquals(
+                List.of("2"),
+                employeeService.getAllEmployees().stream().map(Employee::getId).toList());
+        assertEquals(6000, employeeService.getById("2").getEmployee_salary());
     }
 
     @Test
     void testDeleteEmployeeById_failure() {
-        ApiResponse<Boolean> apiResponse = new ApiResponse<>();
-        apiResponse.setData(false);
+        stubRoster(List.of(createEmployee("1", "Alice", 5000)));
+        employeeService.getAllEmployees();
+        stubDelete("Alice", false);
 
-        ResponseEntity<ApiResponse<Boolean>> response = new ResponseEntity<>(apiResponse, HttpStatus.OK);
+        assertThrows(RuntimeException.class, () -> employeeService.deleteEmployeeById("1"));
+    }
 
+    @Test
+    void testDeleteEmployeeById_unknownIdFallsBackToLookup() {
+        ApiResponse<Employee> found = new ApiResponse<>();
+        found.setData(createEmployee("1", "Alice", 5000));
         when(restTemplate.exchange(
                         contains("/1"),
-                        eq(HttpMethod.DELETE),
+                        eq(HttpMethod.GET),
                         isNull(),
-                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Boolean>>>any()))
-                .thenReturn(response);
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Employee>>>any()))
+                .thenReturn(ResponseEntity.ok(found));
+        stubDelete("Alice", false);
 
         assertThrows(RuntimeException.class, () -> employeeService.deleteEmployeeById("1"));
+        assertThrows(RuntimeException.class, () -> employeeService.deleteEmployeeById("1"));
+
+        verify(restTemplate, times(1))
+                .exchange(
+                        contains("/1"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Employee>>>any());
+    }
+
+    @Test
+    void testDeleteEmployeeById_notFound() {
+        when(restTemplate.exchange(
+                        contains("/1"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Employee>>>any()))
+                .thenReturn(ResponseEntity.ok().build());
+
+        assertThrows(HttpClientErrorException.NotFound.class, () -> employeeService.deleteEmployeeById("1"));
+        verify(restTemplate, never())
+                .exchange(
+                        anyString(),
+                        eq(HttpMethod.DELETE),
+                        any(),
+                        ArgumentMatchers.<ParameterizedTypeReference<ApiResponse<Boolean>>>any());
     }
 }
@@ -0,0 +1,168 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.ColumnarRoster;
+import com.reliaquest.api.model.Employee;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Aggregations over the {@link ColumnarRoster} the roster snapshot now holds, against the same queries over the
+ * {@code List<Employee>} (and ID map) it held before.
+ *
+ * <p>The setup also prints the retained heap of each representation, measured as the used heap after a full GC
+ * before and after building it. Both include the name and email strings.
+ *
+ * <pre>./gradlew :benchmarks:jmh -Pjmh="ColumnarRosterBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ColumnarRosterBenchmark {
+
+    @Param({"1000000"})
+    public int rosterSize;
+
+    /** Past the snapshot's indexed top K, so both sides select from the whole roster. */
+    @Param({"100"})
+    public int topN;
+
+    private List<Employee> employees;
+
+    private Map<String, Employee> byId;
+
+    private ColumnarRoster roster;
+
+    @Setup
+    public void setUp() {
+        long listBytes = retained(() -> indexById(Rosters.employees(rosterSize)));
+        long columnarBytes = retained(() -> ColumnarRoster.of(Rosters.employees(rosterSize)));
+        System.out.printf(
+                "%nRetained heap for %d employees: List<Employee> + ID map %.1f MB, ColumnarRoster %.1f MB%n",
+                rosterSize, listBytes / 1048576.0, columnarBytes / 1048576.0);
+
+        employees = Rosters.employees(rosterSize);
+        byId = indexById(employees);
+        roster = ColumnarRoster.of(employees);
+    }
+
+    private static Map<String, Employee> indexById(List<Employee> employees) {
+        Map<String, Employee> byId = new HashMap<>(employees.size() * 4 / 3 + 1);
+        for (Employee employee : employees) {
+            byId.put(employee.getId(), employee);
+        }
+        return byId;
+    }
+
+    private static long retained(Supplier<Object> build) {
+        long before = usedAfterGc();
+        Object built = build.get();
+        long after = usedAfterGc();
+        Reference.reachabilityFence(built);
+        return after - before;
+    }
+
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    public int listHighestSalary() {
+        int highest = 0;
+        for (Employee employee : employees) {
+            Integer salary = employee.getEmployee_salary();
+            if (salary != null && salary > highest) {
+                highest = salary;
+            }
+        }
+        return highest;
+    }
+
+    @Benchmark
+    public int columnarHighestSalary() {
+        return roster.highestSalary();
+    }
+
+    @Benchmark
+    public List<String> listTopEarners() {
+        Comparator<Employee> bySalary = Comparator.comparing(Employee::getEmployee_salary);
+        PriorityQueue<Employee> heap = new PriorityQueue<>(topN, bySalary);
+        for (Employee employee : employees) {
+            if (employee.getEmployee_salary() == null) {
+                continue;
+            }
+            if (heap.size() < topN) {
+                heap.add(employee);
+            } else if (employee.getEmployee_salary() > heap.peek().getEmployee_salary()) {
+                heap.poll();
+                heap.add(employee);
+            }
+        }
+        List<Employee> top = new ArrayList<>(heap);
+        top.sort(bySalary.reversed());
+        List<String> names = new ArrayList<>(top.size());
+        for (Employee employee : top) {
+            names.add(employee.getEmployee_name());
+        }
+        return names;
+    }
+
+    @Benchmark
+    public List<String> columnarTopEarners() {
+        return roster.topEarnerNames(topN);
+    }
+
+    @Benchmark
+    public Employee listFindById() {
+        return byId.get(
+                employees.get(ThreadLocalRandom.current().nextInt(rosterSize)).getId());
+    }
+
+    @Benchmark
+    public Employee columnarFindById() {
+        int row = roster.rowOf(
+                employees.get(ThreadLocalRandom.current().nextInt(rosterSize)).getId());
+        return roster.employee(row);
+    }
+
+    /** What a full-roster response costs on each side: iterate every element, materializing on the columnar side. */
+    @Benchmark
+    public void listIterate(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(employee);
+        }
+    }
+
+    @Benchmark
+    public void columnarIterate(Blackhole blackhole) {
+        for (Employee employee : roster.asList()) {
+            blackhole.consume(employee);
+        }
+    }
+}
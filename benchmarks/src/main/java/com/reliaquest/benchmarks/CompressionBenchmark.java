@@ -0,0 +1,99 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CPU cost of gzip on the roster payload: the server compressing {@code Response<List<MockEmployee>>}, the api
+ * inflating it, and the api inflating and parsing it in one pass, which compares with
+ * {@link JsonCodecBenchmark#deserializeEmployees()} on the plain body. Level 6 is what Tomcat's compression and
+ * {@code GZIPOutputStream} use; level 1 trades ratio for speed.
+ *
+ * <p>The setup prints the bytes on the wire for each roster size and level.
+ *
+ * <pre>./gradlew :benchmarks:jmh -Pjmh="CompressionBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CompressionBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER = new TypeReference<>() {};
+
+    @Param({"1000", "10000", "100000"})
+    public int rosterSize;
+
+    @Param({"1", "6"})
+    public int level;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] json;
+
+    private byte[] gzipped;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = objectMapper.writeValueAsBytes(Response.handledWith(Rosters.mockEmployees(rosterSize)));
+        gzipped = gzip(json, level);
+        System.out.printf(
+                "%nRoster of %d employees: JSON %.1f KB, gzip level %d %.1f KB (%.1f%%)%n",
+                rosterSize, json.length / 1024.0, level, gzipped.length / 1024.0, 100.0 * gzipped.length / json.length);
+    }
+
+    private static byte[] gzip(byte[] body, int level) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] compress() throws IOException {
+        return gzip(json, level);
+    }
+
+    @Benchmark
+    public byte[] decompress() throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> decompressAndDeserialize() throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return objectMapper.readValue(in, ROSTER);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.RosterStreamParser;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeLookupBatcher;
+import com.reliaquest.api.service.EmployeeService;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * {@link EmployeeService} read paths against an in-memory upstream. With {@code cached=true} the roster snapshot is
+ * warm and the numbers are the steady-state request cost; with {@code cached=false} every call streams and parses the
+ * full upstream body.
+ *
+ * <pre>./gradlew :benchmarks:jmh -Pjmh="EmployeeServiceBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rosterSize;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ApiResponse<List<Employee>> roster = new ApiResponse<>();
+        roster.setData(Rosters.employees(rosterSize));
+        roster.setStatus("Successfully processed request.");
+        RestTemplate restTemplate = new RestTemplate(new InMemoryUpstream(objectMapper.writeValueAsBytes(roster)));
+
+        employeeService = new EmployeeService(
+                restTemplate,
+                "http://upstream/api/v1/employee",
+                0,
+                cached,
+                false,
+                new EmployeeRosterCache(Duration.ofDays(1), Duration.ZERO, 10, false, Runnable::run),
+                null,
+                new EmployeeByIdCache(10_000, Duration.ofDays(1)),
+                new EmployeeLookupBatcher(Duration.ZERO, 1, 2, null, null, null),
+                new RosterStreamParser(objectMapper));
+        employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.searchByName("fitzpat");
+    }
+
+    @Benchmark
+    public Integer getHighestSalary() {
+        return employeeService.getHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> getTop10HighestEarningEmployeeNames() {
+        return employeeService.getTop10HighestEarningEmployeeNames();
+    }
+}
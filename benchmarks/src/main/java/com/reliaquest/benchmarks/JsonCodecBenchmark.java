@@ -0,0 +1,72 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson cost of the roster payload on both sides of the wire: the server writing {@code Response<List<MockEmployee>>}
+ * and the api reading it back as {@code ApiResponse<List<Employee>>}, plus the reverse for the api's own responses.
+ *
+ * <pre>./gradlew :benchmarks:jmh -Pjmh="JsonCodecBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JsonCodecBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER = new TypeReference<>() {};
+
+    @Param({"1000", "100000"})
+    public int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Response<List<MockEmployee>> serverResponse;
+
+    private List<Employee> employees;
+
+    private byte[] serverBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        serverResponse = Response.handledWith(Rosters.mockEmployees(rosterSize));
+        serverBody = objectMapper.writeValueAsBytes(serverResponse);
+        employees = objectMapper.readValue(serverBody, ROSTER).getData();
+    }
+
+    @Benchmark
+    public byte[] serializeMockEmployees() throws IOException {
+        return objectMapper.writeValueAsBytes(serverResponse);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> deserializeEmployees() throws IOException {
+        return objectMapper.readValue(serverBody, ROSTER);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployees() throws IOException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+}
@@ -0,0 +1,140 @@
+package com.reliaquest.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the logging styles the services have used on their write paths, against a file appender that is either
+ * called on the request thread ({@code sync}) or behind the bounded, never-blocking {@link AsyncAppender} that
+ * {@code logback-spring.xml} configures ({@code async}).
+ *
+ * <ul>
+ *   <li>{@code wholeObject} and {@code eagerConcat} are the old statements; the latter builds its string even when
+ *       the level is off.</li>
+ *   <li>{@code idOnly} and {@code guardedConcat} are what the services log now.</li>
+ * </ul>
+ *
+ * <p>Run with {@code level=INFO} to see what disabled statements still cost, and with {@code level=DEBUG} for the
+ * appender comparison. The async appender drops events once its queue is full, so its DEBUG numbers describe the
+ * callers, not how many lines reached the file.
+ *
+ * <pre>./gradlew :benchmarks:jmh -Pjmh="LoggingBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LoggingBenchmark {
+
+    @Param({"sync", "async"})
+    public String appender;
+
+    @Param({"INFO", "DEBUG"})
+    public String level;
+
+    private LoggerContext context;
+
+    private Logger log;
+
+    private Path file;
+
+    private MockEmployee[] employees;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<MockEmployee> roster = Rosters.mockEmployees(1000);
+        employees = roster.toArray(new MockEmployee[0]);
+
+        file = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(
+                "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level %pid --- [%15.15thread] %-40.40logger{39} : %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> root = fileAppender;
+        if ("async".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(fileAppender);
+            async.start();
+            root = async;
+        }
+
+        log = context.getLogger("com.reliaquest.benchmarks.LoggingBenchmark");
+        log.setAdditive(false);
+        log.setLevel(Level.toLevel(level));
+        log.addAppender(root);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file);
+    }
+
+    private MockEmployee next() {
+        return employees[ThreadLocalRandom.current().nextInt(employees.length)];
+    }
+
+    @Benchmark
+    public void wholeObject() {
+        log.debug("Added employee: {}", next());
+    }
+
+    @Benchmark
+    public void eagerConcat() {
+        log.debug("Added employee: " + next());
+    }
+
+    @Benchmark
+    public void idOnly() {
+        log.debug("Added employee {}", next().getId());
+    }
+
+    @Benchmark
+    public void guardedConcat() {
+        if (log.isDebugEnabled()) {
+            log.debug("Added employee: " + next());
+        }
+    }
+}
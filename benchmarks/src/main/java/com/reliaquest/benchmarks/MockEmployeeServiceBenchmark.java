@@ -0,0 +1,119 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeChangeLog;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import com.reliaquest.server.store.MappedMockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MockEmployeeService} operations on the heap-backed and the memory-mapped store, run from several threads so
+ * lock contention shows. {@code createThenDelete} keeps the roster size stable across iterations.
+ *
+ * <pre>./gradlew :benchmarks:jmh -Pjmh="MockEmployeeServiceBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int rosterSize;
+
+    @Param({"memory", "mapped"})
+    public String store;
+
+    private MockEmployeeService service;
+
+    private UUID[] ids;
+
+    private Path mappedDirectory;
+
+    private MappedMockEmployeeStore mappedStore;
+
+    @Setup
+    public void setUp() throws IOException {
+        MockEmployeeStore employeeStore;
+        if ("mapped".equals(store)) {
+            mappedDirectory = Files.createTempDirectory("mock-store");
+            mappedStore = MappedMockEmployeeStore.open(mappedDirectory);
+            employeeStore = mappedStore;
+        } else {
+            employeeStore = new InMemoryMockEmployeeStore();
+        }
+        List<MockEmployee> employees = Rosters.mockEmployees(rosterSize);
+        ids = new UUID[employees.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = employees.get(i).getId();
+        }
+        employeeStore.addAll(employees);
+        service = new MockEmployeeService(new Faker(Locale.ROOT), employeeStore, new MockEmployeeChangeLog(10_000));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (mappedStore != null) {
+            mappedStore.close();
+            try (Stream<Path> files = Files.list(mappedDirectory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(mappedDirectory);
+        }
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public boolean createThenDelete() {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName("Bench " + Thread.currentThread().getId() + " " + System.nanoTime());
+        input.setSalary(100_000);
+        input.setAge(30);
+        input.setTitle("Benchmark Engineer");
+        service.create(input);
+        DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+        delete.setName(input.getName());
+        return service.delete(delete);
+    }
+
+    @Benchmark
+    public int getMockEmployees() {
+        return service.getMockEmployees().size();
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.NameIndex;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Trigram {@link NameIndex} lookups against the previous per-request {@code toLowerCase().contains()} scan.
+ *
+ * <pre>./gradlew :benchmarks:jmh -Pjmh="NameSearchBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class NameSearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rosterSize;
+
+    /** A selective surname fragment, a common one, and a fragment shorter than a trigram. */
+    @Param({"fitzpat", "son", "ai"})
+    public String fragment;
+
+    private List<Employee> employees;
+
+    private NameIndex index;
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.employees(rosterSize);
+        index = NameIndex.build(employees);
+    }
+
+    @Benchmark
+    public List<Employee> linearScan() {
+        return employees.stream()
+                .filter(emp -> emp.getEmployee_name().toLowerCase().contains(fragment.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee> trigramIndex() {
+        return index.search(fragment);
+    }
+
+    @Benchmark
+    public List<Employee> trigramIndexFirstPage() {
+        return index.search(fragment, 0, 100);
+    }
+}
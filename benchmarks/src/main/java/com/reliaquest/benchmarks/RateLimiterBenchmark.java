@@ -0,0 +1,60 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.web.ClientRateLimiter;
+import com.reliaquest.server.web.RateLimitAlgorithm;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one {@link ClientRateLimiter#acquire} from several threads: a single client, where every thread contends on
+ * the same bucket's CAS, and many clients spread over the striped map. The limit is tight enough that both admitted
+ * and rejected requests are measured.
+ *
+ * <pre>./gradlew :benchmarks:jmh -Pjmh="RateLimiterBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    @Param({"TOKEN_BUCKET", "SLIDING_WINDOW"})
+    public RateLimitAlgorithm algorithm;
+
+    @Param({"1", "10000"})
+    public int clients;
+
+    private ClientRateLimiter limiter;
+
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        limiter = new ClientRateLimiter(algorithm, 1_000, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "10.0." + (i >>> 8) + "." + (i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public ClientRateLimiter.Decision acquire() {
+        return limiter.acquire(keys[ThreadLocalRandom.current().nextInt(clients)]);
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.RosterStreamParser;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Answering roster queries from a raw upstream body: binding the whole {@code ApiResponse<List<Employee>>} and then
+ * filtering, against {@link RosterStreamParser}'s token-streaming path. Run with the GC profiler to compare
+ * {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ *
+ * <pre>./gradlew :benchmarks:jmh -Pjmh="RosterParseBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RosterParseBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER = new TypeReference<>() {};
+
+    @Param({"10000", "100000"})
+    public int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RosterStreamParser streamParser;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        ApiResponse<List<Employee>> response = new ApiResponse<>();
+        response.setData(Rosters.employees(rosterSize));
+        response.setStatus("Successfully processed request.");
+        body = objectMapper.writeValueAsBytes(response);
+        streamParser = new RosterStreamParser(objectMapper);
+    }
+
+    @Benchmark
+    public int databindHighestSalary() throws IOException {
+        return objectMapper.readValue(body, ROSTER).getData().stream()
+                .map(Employee::getEmployee_salary)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int streamingHighestSalary() {
+        return streamParser.highestSalary(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public List<Employee> databindSearch() throws IOException {
+        return objectMapper.readValue(body, ROSTER).getData().stream()
+                .filter(emp -> emp.getEmployee_name().toLowerCase(Locale.ROOT).contains("fitzpat"))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee> streamingSearch() {
+        return streamParser.searchByName(new ByteArrayInputStream(body), "fitzpat");
+    }
+
+    @Benchmark
+    public List<String> streamingTopEarners() {
+        return streamParser.topEarnerNames(new ByteArrayInputStream(body), 10);
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/** Deterministic synthetic rosters so every benchmark run sees the same data for a given size. */
+public final class Rosters {
+
+    private static final String[] FIRST_NAMES = {
+        "Tiger", "Garrett", "Ashton", "Cedric", "Airi", "Brielle", "Herrod", "Rhona", "Colleen", "Sonya", "Jena",
+        "Quinn", "Charde", "Haley", "Tatyana", "Michael", "Paul", "Gloria", "Bradley", "Dai"
+    };
+    private static final String[] LAST_NAMES = {
+        "Nixon", "Winters", "Cox", "Kelly", "Satou", "Williamson", "Chandler", "Davidson", "Hurst", "Frost",
+        "Gaines", "Flynn", "Marshall", "Kennedy", "Fitzpatrick", "Silva", "Byrd", "Little", "Greer", "Rios"
+    };
+    private static final String[] TITLES = {
+        "Accountant", "Software Engineer", "Technical Author", "Integration Specialist", "Sales Assistant",
+        "Javascript Developer", "Regional Director", "Systems Administrator", "Office Manager", "Support Lead"
+    };
+
+    private Rosters() {}
+
+    public static List<Employee> employees(int size) {
+        SplittableRandom random = new SplittableRandom(size);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Employee employee = new Employee();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()).toString());
+            employee.setEmployee_name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i);
+            employee.setEmployee_salary(random.nextInt(30_000, 500_000));
+            employee.setEmployee_age(random.nextInt(16, 70));
+            employee.setEmployee_title(TITLES[random.nextInt(TITLES.length)]);
+            employee.setEmployee_email("employee" + i + "@company.com");
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    /** The same roster as {@link #employees(int)}, in the mock server's model. */
+    public static List<MockEmployee> mockEmployees(int size) {
+        List<MockEmployee> mockEmployees = new ArrayList<>(size);
+        for (Employee employee : employees(size)) {
+            mockEmployees.add(MockEmployee.builder()
+                    .id(UUID.fromString(employee.getId()))
+                    .name(employee.getEmployee_name())
+                    .salary(employee.getEmployee_salary())
+                    .age(employee.getEmployee_age())
+                    .title(employee.getEmployee_title())
+                    .email(employee.getEmployee_email())
+                    .build());
+        }
+        return mockEmployees;
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.benchmarks.load;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/** The seven {@code IEmployeeController} endpoints and how the harness exercises each one. */
+enum Endpoint {
+    GET_ALL("getAll", 10) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return context.get("");
+        }
+    },
+    SEARCH("search", 15) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return context.get("/search/" + URLEncoder.encode(context.searchFragment(), StandardCharsets.UTF_8));
+        }
+    },
+    BY_ID("byId", 40) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return context.get("/" + context.existingId());
+        }
+    },
+    HIGHEST_SALARY("highestSalary", 10) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return context.get("/highestSalary");
+        }
+    },
+    TOP_TEN("topTen", 15) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return context.get("/topTenHighestEarningEmployeeNames");
+        }
+    },
+    CREATE("create", 5) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return context.post("", context.newEmployeeJson());
+        }
+
+        @Override
+        void onSuccess(LoadContext context, byte[] body) {
+            context.rememberCreated(body);
+        }
+    },
+    DELETE("delete", 5) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return context.delete("/" + context.idToDelete());
+        }
+    };
+
+    private final String key;
+    private final int defaultWeight;
+
+    Endpoint(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    abstract HttpRequest request(LoadContext context);
+
+    /** Called with the body of every 2xx response. */
+    void onSuccess(LoadContext context, byte[] body) {}
+
+    String key() {
+        return key;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    static Endpoint byKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key) || endpoint.name().equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint " + key.toLowerCase(Locale.ROOT));
+    }
+}
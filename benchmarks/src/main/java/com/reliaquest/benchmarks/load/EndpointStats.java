@@ -0,0 +1,65 @@
+package com.reliaquest.benchmarks.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome counters and a latency histogram for one endpoint. Latency is measured from the request's intended send
+ * time, not the actual one, so a stalled system cannot hide its queueing delay (coordinated omission).
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    void recordResponse(int status, long latencyNanos) {
+        record(latencyNanos);
+        if (status == 429) {
+            throttled.increment();
+        } else if (status >= 200 && status < 300) {
+            ok.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        record(latencyNanos);
+        errors.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    private void record(long latencyNanos) {
+        latencyMicros.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, latencyNanos / 1_000)));
+    }
+
+    Histogram histogram() {
+        return latencyMicros;
+    }
+
+    long ok() {
+        return ok.sum();
+    }
+
+    long throttled() {
+        return throttled.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
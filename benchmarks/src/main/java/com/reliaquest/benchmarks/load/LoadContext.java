@@ -0,0 +1,97 @@
+package com.reliaquest.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Request parameters for the endpoints: IDs and names from the seeded roster, plus the IDs of employees the run itself
+ * created so deletes target those first. Only the arrival thread draws from the random source.
+ */
+final class LoadContext {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String apiBase;
+    private final List<String> seededIds;
+    private final List<String> seededNames;
+    private final Random random;
+    private final ObjectMapper objectMapper;
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+
+    LoadContext(
+            String apiBase, List<String> seededIds, List<String> seededNames, long seed, ObjectMapper objectMapper) {
+        if (seededIds.isEmpty()) {
+            throw new IllegalStateException("The mock server has no employees to look up");
+        }
+        this.apiBase = apiBase;
+        this.seededIds = seededIds;
+        this.seededNames = seededNames;
+        this.random = new Random(seed);
+        this.objectMapper = objectMapper;
+    }
+
+    HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    HttpRequest post(String path, String json) {
+        return builder(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    HttpRequest delete(String path) {
+        return builder(path).DELETE().build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(apiBase + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+    }
+
+    String existingId() {
+        return seededIds.get(random.nextInt(seededIds.size()));
+    }
+
+    /** A three-character slice of a seeded name, so searches have realistic selectivity. */
+    String searchFragment() {
+        String name = seededNames.get(random.nextInt(seededNames.size()));
+        if (name.length() <= 3) {
+            return name;
+        }
+        int start = random.nextInt(name.length() - 2);
+        return name.substring(start, start + 3);
+    }
+
+    String newEmployeeJson() {
+        return "{\"name\":\"Load Test " + Long.toHexString(random.nextLong()) + "\",\"salary\":"
+                + (30_000 + random.nextInt(470_000)) + ",\"age\":" + (18 + random.nextInt(50))
+                + ",\"title\":\"Load Tester\"}";
+    }
+
+    String idToDelete() {
+        String id = created.poll();
+        return id != null ? id : existingId();
+    }
+
+    void rememberCreated(byte[] body) {
+        try {
+            JsonNode id = objectMapper.readTree(body).get("id");
+            if (id != null && !id.isNull()) {
+                created.add(id.asText());
+            }
+        } catch (IOException ignored) {
+            // an unparseable create response is already counted by its status
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/** Per-endpoint and overall results of one run, written as JSON and CSV. */
+record LoadReport(
+        Instant startedAt,
+        int offeredRate,
+        double measuredSeconds,
+        int employees,
+        boolean rateLimit,
+        long upstreamLatencyMillis,
+        boolean virtualThreads,
+        boolean cache,
+        boolean responseCache,
+        List<Row> endpoints,
+        Row overall,
+        double allocatedKbPerRequest) {
+
+    record Row(
+            String endpoint,
+            long requests,
+            double throughput,
+            long ok,
+            long throttled,
+            long errors,
+            long dropped,
+            double throttledRate,
+            double errorRate,
+            double meanMillis,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis) {
+
+        static Row of(String endpoint, EndpointStats stats, Histogram histogram, double seconds) {
+            return of(endpoint, stats.ok(), stats.throttled(), stats.errors(), stats.dropped(), histogram, seconds);
+        }
+
+        static Row of(
+                String endpoint,
+                long ok,
+                long throttled,
+                long errors,
+                long dropped,
+                Histogram histogram,
+                double seconds) {
+            long requests = ok + throttled + errors + dropped;
+            return new Row(
+                    endpoint,
+                    requests,
+                    requests / seconds,
+                    ok,
+                    throttled,
+                    errors,
+                    dropped,
+                    ratio(throttled, requests),
+                    ratio(errors + dropped, requests),
+                    histogram.getMean() / 1_000.0,
+                    millis(histogram, 50),
+                    millis(histogram, 90),
+                    millis(histogram, 99),
+                    millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1_000.0);
+        }
+
+        private static double ratio(long part, long total) {
+            return total == 0 ? 0.0 : (double) part / total;
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000.0;
+        }
+
+        String toCsv() {
+            return String.format(
+                    Locale.ROOT,
+                    "%s,%d,%.1f,%d,%d,%d,%d,%.4f,%.4f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                    endpoint,
+                    requests,
+                    throughput,
+                    ok,
+                    throttled,
+                    errors,
+                    dropped,
+                    throttledRate,
+                    errorRate,
+                    meanMillis,
+                    p50Millis,
+                    p90Millis,
+                    p99Millis,
+                    p999Millis,
+                    maxMillis);
+        }
+    }
+
+    static LoadReport of(
+            LoadTestOptions options,
+            Instant startedAt,
+            double seconds,
+            Map<Endpoint, EndpointStats> stats,
+            long allocatedBytes) {
+        List<Row> rows = new ArrayList<>();
+        Histogram all = new Histogram(3);
+        long ok = 0;
+        long throttled = 0;
+        long errors = 0;
+        long dropped = 0;
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            Histogram histogram = endpointStats.histogram().copy();
+            all.add(histogram);
+            rows.add(Row.of(entry.getKey().key(), endpointStats, histogram, seconds));
+            ok += endpointStats.ok();
+            throttled += endpointStats.throttled();
+            errors += endpointStats.errors();
+            dropped += endpointStats.dropped();
+        }
+        return new LoadReport(
+                startedAt,
+                options.rate(),
+                seconds,
+                options.employees(),
+                options.rateLimit(),
+                options.upstreamLatency().toMillis(),
+                options.virtualThreads(),
+                options.cache(),
+                options.responseCache(),
+                rows,
+                Row.of("all", ok, throttled, errors, dropped, all, seconds),
+                ok + throttled + errors == 0 ? 0.0 : allocatedBytes / 1024.0 / (ok + throttled + errors));
+    }
+
+    List<Path> write(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        String name = "loadtest-" + startedAt.toString().replace(':', '-');
+        Path json = directory.resolve(name + ".json");
+        objectMapper
+                .copy()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(json.toFile(), this);
+        Path csv = directory.resolve(name + ".csv");
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,throughput_rps,ok,throttled,errors,dropped,throttled_rate,error_rate,"
+                + "mean_ms,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms");
+        endpoints.forEach(row -> lines.add(row.toCsv()));
+        lines.add(overall.toCsv());
+        Files.write(csv, lines);
+        return List.of(json, csv);
+    }
+}
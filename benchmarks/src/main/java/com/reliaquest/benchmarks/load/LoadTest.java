@@ -0,0 +1,260 @@
+package com.reliaquest.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end load generator: boots {@link ServerApplication} and {@link ApiApplication} in this JVM on random ports,
+ * offers a fixed arrival rate (open model) of requests spread over the api endpoints according to the mix, and writes
+ * HdrHistogram latency percentiles, throughput, 429 and error rates per endpoint.
+ *
+ * <pre>./gradlew :benchmarks:loadTest -PloadTest="--rate=500 --duration=2m --rate-limit=false"</pre>
+ *
+ * See {@link LoadTestOptions} for every option.
+ */
+@Slf4j
+public final class LoadTest {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final int UNLIMITED_PERMITS = 1_000_000;
+    private static final int SLOW_UPSTREAM_WORKERS = 2_000;
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final MeterRegistry apiMeters;
+
+    private LoadTest(LoadTestOptions options, MeterRegistry apiMeters) {
+        this.options = options;
+        this.apiMeters = apiMeters;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<String> serverProperties = new ArrayList<>(List.of(
+                "spring.config.name=loadtest-server",
+                "server.port=0",
+                "mock.employees.max=" + options.employees(),
+                "mock.employees.seed=" + options.seed(),
+                "mock.rate-limit.enabled=" + options.rateLimit(),
+                "mock.latency=" + options.upstreamLatency().toMillis() + "ms",
+                "spring.threads.virtual.enabled=" + options.virtualThreads()));
+        if (!options.upstreamLatency().isZero()) {
+            // a slow but elastic upstream: its own worker pool must not be what caps the api
+            serverProperties.add("server.tomcat.threads.max=" + SLOW_UPSTREAM_WORKERS);
+        }
+        ConfigurableApplicationContext server = new SpringApplicationBuilder(ServerApplication.class)
+                .properties(serverProperties.toArray(new String[0]))
+                .run();
+        String serverBase = "http://localhost:" + port(server) + "/api/v1/employee";
+        List<String> apiProperties = new ArrayList<>(List.of(
+                "spring.config.name=loadtest-api",
+                "server.port=0",
+                "employee.service.base-url=" + serverBase,
+                "employee.cache.enabled=" + options.cache(),
+                "employee.response-cache.enabled=" + options.responseCache(),
+                "spring.threads.virtual.enabled=" + options.virtualThreads()));
+        if (!options.rateLimit()) {
+            // nothing upstream will ever answer 429, so the api's own adaptive budget would be the only limit
+            apiProperties.add("employee.client.rate-limit.initial-capacity=" + UNLIMITED_PERMITS);
+        }
+        ConfigurableApplicationContext api = new SpringApplicationBuilder(ApiApplication.class)
+                .properties(apiProperties.toArray(new String[0]))
+                .run();
+        try {
+            LoadTest loadTest = new LoadTest(options, api.getBean(MeterRegistry.class));
+            LoadReport report = loadTest.run(serverBase, "http://localhost:" + port(api));
+            print(report);
+            for (Path path : report.write(options.reportDir(), loadTest.objectMapper)) {
+                log.info("Wrote {}", path.toAbsolutePath());
+            }
+        } finally {
+            api.close();
+            server.close();
+        }
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private LoadReport run(String serverBase, String apiBase) throws IOException, InterruptedException {
+        LoadContext context = seed(serverBase, apiBase);
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        options.mix().keySet().forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+        Endpoint[] wheel = wheel(options.mix());
+        Random random = new Random(options.seed());
+        AtomicInteger inFlight = new AtomicInteger();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        Instant startedAt = Instant.now();
+        log.info(
+                "Offering {} req/s for {} after a {} warmup against {}",
+                options.rate(),
+                options.duration(),
+                options.warmup(),
+                apiBase);
+
+        long allocatedAtStart = -1;
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (allocatedAtStart < 0 && intended >= measureFrom) {
+                allocatedAtStart = allocatedBytes();
+            }
+            Endpoint endpoint = wheel[random.nextInt(wheel.length)];
+            EndpointStats endpointStats = intended >= measureFrom ? stats.get(endpoint) : null;
+            if (inFlight.get() >= options.maxInFlight()) {
+                if (endpointStats != null) {
+                    endpointStats.recordDropped();
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            httpClient
+                    .sendAsync(endpoint.request(context), HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - intended;
+                        inFlight.decrementAndGet();
+                        if (failure != null) {
+                            if (endpointStats != null) {
+                                endpointStats.recordFailure(latency);
+                            }
+                            return;
+                        }
+                        if (endpointStats != null) {
+                            endpointStats.recordResponse(response.statusCode(), latency);
+                        }
+                        if (response.statusCode() / 100 == 2) {
+                            endpoint.onSuccess(context, response.body());
+                        }
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            log.warn(
+                    "{} requests still outstanding after {}; they are not in the report",
+                    inFlight.get(),
+                    DRAIN_TIMEOUT);
+        }
+        return LoadReport.of(
+                options,
+                startedAt,
+                options.duration().toMillis() / 1_000.0,
+                stats,
+                allocatedBytes() - Math.max(0, allocatedAtStart));
+    }
+
+    /*
+     * Young-generation allocation of this whole JVM as Micrometer tracks it, so it includes the mock server and the
+     * load generator, whose share does not depend on the api's settings; that is what makes runs comparable. It moves
+     * at each GC, so a run should span many of them.
+     */
+    private long allocatedBytes() {
+        Counter allocated = apiMeters.find("jvm.gc.memory.allocated").counter();
+        return allocated == null ? 0 : (long) allocated.count();
+    }
+
+    /** Reads the seeded roster straight from the mock server so lookups and searches hit real data. */
+    private LoadContext seed(String serverBase, String apiBase) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(serverBase)).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Could not read the seeded roster: HTTP " + response.statusCode());
+        }
+        List<String> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (JsonNode employee : objectMapper.readTree(response.body()).path("data")) {
+            ids.add(employee.path("id").asText());
+            names.add(employee.path("employee_name").asText());
+        }
+        return new LoadContext(apiBase, ids, names, options.seed(), objectMapper);
+    }
+
+    private static Endpoint[] wheel(Map<Endpoint, Integer> mix) {
+        List<Endpoint> slots = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(endpoint);
+            }
+        });
+        return slots.toArray(new Endpoint[0]);
+    }
+
+    private static void print(LoadReport report) {
+        System.out.printf(
+                Locale.ROOT,
+                "%n%-14s %9s %9s %8s %8s %9s %9s %9s %9s%n",
+                "endpoint",
+                "requests",
+                "req/s",
+                "429 %",
+                "err %",
+                "p50 ms",
+                "p99 ms",
+                "p99.9 ms",
+                "max ms");
+        List<LoadReport.Row> rows = new ArrayList<>(report.endpoints());
+        rows.add(report.overall());
+        for (LoadReport.Row row : rows) {
+            System.out.printf(
+                    Locale.ROOT,
+                    "%-14s %9d %9.1f %8.2f %8.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.endpoint(),
+                    row.requests(),
+                    row.throughput(),
+                    row.throttledRate() * 100,
+                    row.errorRate() * 100,
+                    row.p50Millis(),
+                    row.p99Millis(),
+                    row.p999Millis(),
+                    row.maxMillis());
+        }
+        System.out.printf(
+                Locale.ROOT,
+                "%nHeap allocated per request (whole JVM, from GC): %.1f KB%n",
+                report.allocatedKbPerRequest());
+    }
+}
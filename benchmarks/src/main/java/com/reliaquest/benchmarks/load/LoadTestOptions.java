@@ -0,0 +1,103 @@
+package com.reliaquest.benchmarks.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Command-line options of {@link LoadTest}, given as {@code --name=value}; later occurrences win.
+ *
+ * <ul>
+ *   <li>{@code --rate}: requests per second offered to the api, independent of how fast it answers (default 200)</li>
+ *   <li>{@code --duration} / {@code --warmup}: measured run and unmeasured lead-in (defaults 60s / 10s)</li>
+ *   <li>{@code --employees}: size of the mock server's seeded roster (default 1000)</li>
+ *   <li>{@code --rate-limit}: keep the mock server's random 429s on (default true). Turning them off also lifts
+ *       the api's client-side request budget, for pure capacity runs.</li>
+ *   <li>{@code --upstream-latency}: time the mock server holds every request, to stand in for a slow upstream
+ *       (default 0s)</li>
+ *   <li>{@code --virtual-threads}: run both services with spring.threads.virtual.enabled; needs Java 21+ (default
+ *       false)</li>
+ *   <li>{@code --cache}: keep the api's roster cache on. Turning it off sends every request upstream, which is what
+ *       exposes the request-thread limit under {@code --upstream-latency} (default true)</li>
+ *   <li>{@code --response-cache}: keep the api's serialized response cache on (default true)</li>
+ *   <li>{@code --mix}: relative endpoint weights, e.g. {@code getAll:10,search:20,byId:40} (default: see
+ *       {@link Endpoint})</li>
+ *   <li>{@code --max-in-flight}: outstanding requests beyond which new arrivals are dropped (default 10000)</li>
+ *   <li>{@code --report-dir}: where the JSON and CSV reports are written (default build/reports/loadtest)</li>
+ *   <li>{@code --seed}: seed for the mock roster, endpoint selection and request parameters (default 42)</li>
+ * </ul>
+ */
+record LoadTestOptions(
+        int rate,
+        Duration duration,
+        Duration warmup,
+        int employees,
+        boolean rateLimit,
+        Duration upstreamLatency,
+        boolean virtualThreads,
+        boolean cache,
+        boolean responseCache,
+        Map<Endpoint, Integer> mix,
+        int maxInFlight,
+        Path reportDir,
+        long seed) {
+
+    static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                Integer.parseInt(values.getOrDefault("employees", "1000")),
+                Boolean.parseBoolean(values.getOrDefault("rate-limit", "true")),
+                DurationStyle.detectAndParse(values.getOrDefault("upstream-latency", "0s")),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+                Boolean.parseBoolean(values.getOrDefault("cache", "true")),
+                Boolean.parseBoolean(values.getOrDefault("response-cache", "true")),
+                parseMix(values.get("mix")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                Path.of(values.getOrDefault("report-dir", "build/reports/loadtest")),
+                Long.parseLong(values.getOrDefault("seed", "42")));
+        if (options.rate < 1 || options.duration.isZero() || options.duration.isNegative()) {
+            throw new IllegalArgumentException("rate and duration must be positive");
+        }
+        if (options.upstreamLatency.isNegative()) {
+            throw new IllegalArgumentException("upstream-latency must not be negative");
+        }
+        return options;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        if (mix == null || mix.isBlank()) {
+            for (Endpoint endpoint : Endpoint.values()) {
+                weights.put(endpoint, endpoint.defaultWeight());
+            }
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint:weight but got " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.byKey(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix must give at least one endpoint a positive weight");
+        }
+        return weights;
+    }
+}
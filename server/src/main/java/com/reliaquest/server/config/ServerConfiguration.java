@@ -1,19 +1,35 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeChangeLog;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import com.reliaquest.server.store.MappedMockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeGenerator;
+import com.reliaquest.server.store.MockEmployeeSnapshotFile;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.web.ClientRateLimiter;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.web.RateLimitAlgorithm;
+import com.reliaquest.server.web.SimulatedLatencyInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,39 +37,186 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectProvider<ClientRateLimiter> rateLimiter;
+
+    /*
+     * Capacity and load tests switch the random 429s off to measure the service itself.
+     */
+    @Value("${mock.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${mock.rate-limit.client-header:X-Client-Id}")
+    private String rateLimitClientHeader;
+
+    /*
+     * Added to every request the rate limit lets through, to load-test the api against a slow upstream.
+     */
+    @Value("${mock.latency:0s}")
+    private Duration latency;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. mock.store.type picks the heap-backed store (memory, the
+     * default) or the memory-mapped one (mapped) kept in mock.store.directory; a mapped store that already holds
+     * employees is served as it is, without seeding.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            @Value("${mock.store.type:memory}") String storeType,
+            @Value("${mock.store.directory:mock-store}") String storeDirectory,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.snapshot:}") String snapshotPath) {
+        final MockEmployeeStore store;
+        if ("mapped".equalsIgnoreCase(storeType)) {
+            final var started = System.nanoTime();
+            store = MappedMockEmployeeStore.open(Path.of(storeDirectory));
+            if (store.size() > 0) {
+                log.info(
+                        "Opened {} mock employees from {} in {} ms",
+                        store.size(),
+                        storeDirectory,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                return store;
+            }
+        } else if ("memory".equalsIgnoreCase(storeType)) {
+            store = new InMemoryMockEmployeeStore();
+        } else {
+            throw new IllegalArgumentException("Unknown mock.store.type: " + storeType);
+        }
+        store.addAll(seedRoster(maxEmployees, seed, snapshotPath));
+        return store;
+    }
+
+    /*
+     * Seed data is generated in parallel from mock.employees.seed (random when unset, and logged so a run can be
+     * reproduced). When mock.employees.snapshot names a file, a roster previously written there for the same seed,
+     * locale and size is loaded instead of generated.
+     */
+    private static List<MockEmployee> seedRoster(int maxEmployees, Long seed, String snapshotPath) {
+        final var effectiveSeed =
+                seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        final var snapshotFile = snapshotPath.isBlank() ? null : new MockEmployeeSnapshotFile(Path.of(snapshotPath));
+        final var locale = Locale.getDefault();
+        final var started = System.nanoTime();
+        final var loaded =
+                Optional.ofNullable(snapshotFile).flatMap(file -> file.read(effectiveSeed, locale, maxEmployees));
+        if (loaded.isPresent()) {
+            log.info(
+                    "Loaded {} mock employees from {} in {} ms",
+                    loaded.get().size(),
+                    snapshotFile.getPath(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return loaded.get();
+        }
+        final var generated = new MockEmployeeGenerator(effectiveSeed, locale).generate(maxEmployees);
+        log.info(
+                "Generated {} mock employees with seed {} in {} ms",
+                generated.size(),
+                effectiveSeed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        if (snapshotFile != null) {
+            snapshotFile.write(effectiveSeed, locale, generated);
+            log.info("Wrote roster snapshot {}", snapshotFile.getPath());
+        }
+        return generated;
+    }
+
+    @Bean
+    public MeterBinder mockEmployeeStoreMetrics(MockEmployeeStore mockEmployeeStore) {
+        return registry -> Gauge.builder("mock.employees.size", mockEmployeeStore, MockEmployeeStore::size)
+                .description("Employees currently held by the mock store")
+                .register(registry);
+    }
+
+    /*
+     * mock.changes.capacity bounds how far behind a client of the change feed may fall before it has to reload the
+     * whole roster; 0 turns the feed off, so every client reloads.
+     */
+    @Bean
+    public MockEmployeeChangeLog mockEmployeeChangeLog(@Value("${mock.changes.capacity:10000}") int capacity) {
+        return new MockEmployeeChangeLog(capacity);
+    }
+
+    @Bean
+    public MeterBinder mockEmployeeChangeLogMetrics(MockEmployeeChangeLog changeLog) {
+        return registry -> Gauge.builder("mock.employees.version", changeLog, MockEmployeeChangeLog::version)
+                .description("Roster changes made since startup")
+                .register(registry);
+    }
+
+    /*
+     * Each client gets mock.rate-limit.limit requests per mock.rate-limit.period. Either one left unset is drawn from
+     * mock.rate-limit.seed (by default the roster seed, else random and logged) in the ranges the mock has always used,
+     * 5-9 requests per 30-89 seconds, so a throttled run can be replayed exactly.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "mock.rate-limit.enabled", matchIfMissing = true)
+    public ClientRateLimiter clientRateLimiter(
+            @Value("${mock.rate-limit.algorithm:token-bucket}") String algorithm,
+            @Value("${mock.rate-limit.limit:#{null}}") Integer limit,
+            @Value("${mock.rate-limit.period:#{null}}") Duration period,
+            @Value("${mock.rate-limit.idle-timeout:10m}") Duration idleTimeout,
+            @Value("${mock.rate-limit.seed:${mock.employees.seed:#{null}}}") Long seed) {
+        final var effectiveSeed =
+                seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        final var random = new SplittableRandom(effectiveSeed);
+        final var drawnLimit = random.nextInt(5, 10);
+        final var drawnPeriod = Duration.ofSeconds(random.nextInt(30, 90));
+        final var limiter = new ClientRateLimiter(
+                RateLimitAlgorithm.valueOf(algorithm.trim().replace('-', '_').toUpperCase(Locale.ROOT)),
+                limit != null ? limit : drawnLimit,
+                period != null ? period : drawnPeriod,
+                idleTimeout);
+        log.info(
+                "Rate limiting each client to {} requests per {} ({}, seed {})",
+                limiter.limit(),
+                limiter.period(),
+                limiter.algorithm(),
+                effectiveSeed);
+        return limiter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mock.rate-limit.enabled", matchIfMissing = true)
+    public MeterBinder clientRateLimiterMetrics(ClientRateLimiter clientRateLimiter) {
+        return registry -> {
+            Gauge.builder("mock.rate-limit.clients", clientRateLimiter, ClientRateLimiter::clients)
+                    .description("Clients currently holding a rate-limit bucket")
+                    .register(registry);
+            FunctionCounter.builder("mock.rate-limit.evictions", clientRateLimiter, ClientRateLimiter::evictions)
+                    .description("Idle rate-limit buckets evicted")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (rateLimitEnabled) {
+            registry.addInterceptor(
+                    new RandomRequestLimitInterceptor(rateLimiter.getObject(), rateLimitClientHeader, meterRegistry));
+        } else {
+            log.info("Random request limiting is disabled");
+        }
+        if (!latency.isZero() && !latency.isNegative()) {
+            registry.addInterceptor(new SimulatedLatencyInterceptor(latency));
+            log.info("Holding every request for {}", latency);
+        }
     }
 }
@@ -1,15 +1,22 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,18 +24,112 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final int DEFAULT_PAGE_SIZE = 1_000;
+    private static final int MAX_PAGE_SIZE = 10_000;
+
+    private static final int MAX_BULK_ITEMS = 1_000;
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    /*
+     * Without paging parameters the whole roster is returned, as before. With "cursor" (empty for the first page) the
+     * walk is keyed on insertion order and the header X-Next-Cursor carries the cursor of the following page; with
+     * "offset" the page is cut from a point-in-time roster and X-Total-Count carries its size.
+     *
+     * The whole roster carries an ETag of the roster version; a poll whose If-None-Match still matches gets an empty
+     * 304 before any of the roster is read. The tag is weak because it names the roster whether or not the body is
+     * gzipped, and Tomcat's compression leaves responses with a strong ETag uncompressed.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "offset", required = false) Integer offset,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            WebRequest request) {
+        if (cursor == null && offset == null && limit == null) {
+            final var etag = "W/\"" + mockEmployeeService.getRosterTag() + "\"";
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(etag).body(Response.handledWith(mockEmployeeService.getMockEmployees()));
+        }
+        int pageSize = pageSize(limit);
+        if (cursor != null) {
+            final var page = mockEmployeeService.getMockEmployeePage(parseCursor(cursor), pageSize);
+            final var response = ResponseEntity.ok();
+            if (page.hasMore()) {
+                response.header(NEXT_CURSOR_HEADER, Long.toString(page.nextCursor()));
+            }
+            return response.body(Response.handledWith(page.employees()));
+        }
+        int from = offset == null ? 0 : offset;
+        if (from < 0) {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+        final var employees = mockEmployeeService.getMockEmployees();
+        final var page = employees.subList(
+                Math.min(from, employees.size()), (int) Math.min((long) from + pageSize, employees.size()));
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, Integer.toString(employees.size()))
+                .body(Response.handledWith(page));
+    }
+
+    /*
+     * The changes since the roster a client holds, named by the ETag it was served with, so keeping a replica current
+     * costs in proportion to what changed rather than to the roster. The response carries the ETag of the roster the
+     * changes lead to, for the next poll. Changes are safe to replay: a create of an employee the client already holds
+     * or a delete of one it does not is a no-op. 410 Gone means the log no longer reaches back to that roster (or the
+     * tag is from an earlier run) and the client has to reload it in full.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<List<MockEmployeeChange>>> getChanges(@RequestParam(name = "since") String since) {
+        return mockEmployeeService
+                .getChangesSince(since)
+                .map(changes -> ResponseEntity.ok()
+                        .eTag("W/\"" + changes.tag() + "\"")
+                        .body(Response.handledWith(changes.changes())))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Changes since " + since + " are no longer available")));
+    }
+
+    /*
+     * One employee per line, written page by page straight to the response so memory per request stays bounded by
+     * the page size rather than the roster.
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        StreamingResponseBody body = out -> {
+            final var writer = objectMapper.writerFor(MockEmployee.class);
+            long cursor = 0;
+            do {
+                final var page = mockEmployeeService.getMockEmployeePage(cursor, DEFAULT_PAGE_SIZE);
+                for (MockEmployee employee : page.employees()) {
+                    out.write(writer.writeValueAsBytes(employee));
+                    out.write('\n');
+                }
+                out.flush();
+                cursor = page.nextCursor();
+            } while (cursor >= 0);
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
     }
 
     @GetMapping("/{id}")
@@ -44,8 +145,93 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    private static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            long position = Long.parseLong(cursor);
+            if (position >= 0) {
+                return position;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /*
+     * Bulk variants count as a single request against the rate limit. Every item is validated on its own; invalid
+     * items get an error entry and the rest are still processed. Results line up with the request body by position.
+     */
+    @PostMapping("/bulk")
+    public Response<List<Response<MockEmployee>>> createEmployees(@RequestBody List<CreateMockEmployeeInput> inputs) {
+        final var errors = validateAll(inputs);
+        final var created =
+                mockEmployeeService.createAll(withoutErrors(inputs, errors)).iterator();
+        return Response.handledWith(collectResults(errors, created::next));
+    }
+
+    @DeleteMapping("/bulk")
+    public Response<List<Response<Boolean>>> deleteEmployees(@RequestBody List<DeleteMockEmployeeInput> inputs) {
+        final var errors = validateAll(inputs);
+        final var deleted =
+                mockEmployeeService.deleteAll(withoutErrors(inputs, errors)).iterator();
+        return Response.handledWith(collectResults(errors, deleted::next));
+    }
+
+    private <T> List<String> validateAll(List<T> inputs) {
+        if (inputs.isEmpty() || inputs.size() > MAX_BULK_ITEMS) {
+            throw new IllegalArgumentException("Bulk requests take between 1 and " + MAX_BULK_ITEMS + " items");
+        }
+        final var errors = new ArrayList<String>(inputs.size());
+        for (T input : inputs) {
+            if (input == null) {
+                errors.add("item must not be null");
+                continue;
+            }
+            final var violations = validator.validate(input);
+            errors.add(
+                    violations.isEmpty()
+                            ? null
+                            : violations.stream()
+                                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                                    .sorted()
+                                    .collect(Collectors.joining(", ")));
+        }
+        return errors;
+    }
+
+    private static <T> List<T> withoutErrors(List<T> inputs, List<String> errors) {
+        final var valid = new ArrayList<T>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            if (errors.get(i) == null) {
+                valid.add(inputs.get(i));
+            }
+        }
+        return valid;
+    }
+
+    private static <T> List<Response<T>> collectResults(List<String> errors, Supplier<T> processed) {
+        final var results = new ArrayList<Response<T>>(errors.size());
+        for (String error : errors) {
+            results.add(error == null ? Response.handledWith(processed.get()) : Response.error(error));
+        }
+        return results;
+    }
 }
@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+/**
+ * One entry of the roster change feed: an employee that was created or deleted, and the roster version the change
+ * produced. Versions count changes, so consecutive entries are numbered consecutively.
+ */
+public record MockEmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
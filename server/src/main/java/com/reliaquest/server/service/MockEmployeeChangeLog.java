@@ -0,0 +1,123 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+
+/**
+ * Bounded, in-memory log of the last {@code capacity} roster changes, and the source of the roster tag.
+ *
+ * <p>The roster version counts every employee created or deleted since startup, so a tag names a point in this log
+ * and a client holding one can be sent just the changes after it. Once those have been overwritten by newer ones the
+ * client has to reload the roster. The epoch keeps tags handed out by an earlier run (a mapped store outlives the
+ * process) from naming a point in this one.
+ */
+public class MockEmployeeChangeLog {
+
+    private final MockEmployeeChange[] ring;
+
+    private final String epoch = Long.toHexString(RandomGenerator.getDefault().nextLong());
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile long version;
+
+    /** Changes after some earlier tag, and the tag of the roster they bring a client up to. */
+    public record Changes(String tag, List<MockEmployeeChange> changes) {}
+
+    public MockEmployeeChangeLog(int capacity) {
+        this.ring = new MockEmployeeChange[Math.max(0, capacity)];
+    }
+
+    /** Identifies the current roster contents: the epoch and the version of the latest change. */
+    public String tag() {
+        return epoch + "-" + version;
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    void created(List<MockEmployee> employees) {
+        lock.lock();
+        try {
+            for (MockEmployee employee : employees) {
+                append(MockEmployeeChange.Type.CREATED, employee);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void deleted(MockEmployee employee) {
+        lock.lock();
+        try {
+            append(MockEmployeeChange.Type.DELETED, employee);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(MockEmployeeChange.Type type, MockEmployee employee) {
+        long next = version + 1;
+        if (ring.length > 0) {
+            ring[(int) (next % ring.length)] = new MockEmployeeChange(next, type, employee);
+        }
+        version = next;
+    }
+
+    /**
+     * The changes made after {@code tag}, oldest first, or empty when the log no longer reaches back that far or the tag
+     * comes from another run. Tags are accepted as sent in an ETag header, quoted or not.
+     *
+     * @throws IllegalArgumentException if {@code tag} is not a roster tag at all
+     */
+    public Optional<Changes> since(String tag) {
+        String value = tag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        int separator = value.lastIndexOf('-');
+        long from;
+        try {
+            from = separator < 0 ? -1 : Long.parseLong(value.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            from = -1;
+        }
+        if (from < 0) {
+            throw new IllegalArgumentException("Invalid roster tag: " + tag);
+        }
+        if (!epoch.equals(value.substring(0, separator))) {
+            return Optional.empty();
+        }
+        return since(from);
+    }
+
+    private Optional<Changes> since(long from) {
+        lock.lock();
+        try {
+            long to = version;
+            if (from > to || to - from > ring.length) {
+                return Optional.empty();
+            }
+            final var changes = new ArrayList<MockEmployeeChange>((int) (to - from));
+            for (long at = from + 1; at <= to; at++) {
+                changes.add(ring[(int) (at % ring.length)]);
+            }
+            return Optional.of(new Changes(epoch + "-" + to, changes));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
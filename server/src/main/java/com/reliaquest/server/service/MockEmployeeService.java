@@ -4,11 +4,13 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeePage;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +24,38 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final MockEmployeeChangeLog changeLog;
+
+    /*
+     * Each write lands in the store and then in the change log while holding this lock, so the log lists changes in
+     * the order the store saw them (a delete can never be logged ahead of the create it undid) and the roster tag,
+     * read before the roster it describes, can only ever be older than the body it goes out with: a client may
+     * refetch or replay a change it already has, but never misses one.
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /** Identifies the current roster contents; changes with every create and delete. */
+    public String getRosterTag() {
+        return changeLog.tag();
+    }
+
+    /** The changes since {@code tag}; empty when the client has to reload the roster instead. */
+    public Optional<MockEmployeeChangeLog.Changes> getChangesSince(@NonNull String tag) {
+        return changeLog.since(tag);
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.snapshot();
+    }
+
+    public MockEmployeePage getMockEmployeePage(long cursor, int limit) {
+        return mockEmployeeStore.page(cursor, limit);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +63,58 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
-        log.debug("Added employee: {}", mockEmployee);
+        writeLock.lock();
+        try {
+            mockEmployeeStore.add(mockEmployee);
+            changeLog.created(List.of(mockEmployee));
+        } finally {
+            writeLock.unlock();
+        }
+        log.debug("Added employee {}", mockEmployee.getId());
         return mockEmployee;
     }
 
+    /** Creates one employee per input, in order, and stores them as a single write. */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = new ArrayList<MockEmployee>(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            mockEmployees.add(MockEmployee.from(
+                    ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()),
+                    input));
+        }
+        writeLock.lock();
+        try {
+            mockEmployeeStore.addAll(mockEmployees);
+            changeLog.created(mockEmployees);
+        } finally {
+            writeLock.unlock();
+        }
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final Optional<MockEmployee> mockEmployee;
+        writeLock.lock();
+        try {
+            mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
+            mockEmployee.ifPresent(changeLog::deleted);
+        } finally {
+            writeLock.unlock();
+        }
+        if (log.isDebugEnabled() && mockEmployee.isPresent()) {
+            log.debug("Removed employee {}", mockEmployee.get().getId());
         }
+        return mockEmployee.isPresent();
+    }
 
-        return false;
+    /** Deletes for each input, in order, as {@link #delete} would; the result says which ones removed an employee. */
+    public List<Boolean> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final var deleted = new ArrayList<Boolean>(inputs.size());
+        for (DeleteMockEmployeeInput input : inputs) {
+            deleted.add(delete(input));
+        }
+        return deleted;
     }
 }
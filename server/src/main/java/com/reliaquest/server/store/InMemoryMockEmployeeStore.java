@@ -0,0 +1,175 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.NonNull;
+
+/**
+ * Heap-backed store.
+ *
+ * <ul>
+ *   <li>Lookups by ID go straight to a concurrent hash index and never take a lock.</li>
+ *   <li>Writes take the write lock and keep the ID index, the insertion-ordered roster and the case-insensitive name
+ *       index in step. Every add gets the next sequence number, which doubles as the pagination cursor.</li>
+ *   <li>{@link #snapshot()} copies the roster under the read lock and caches the copy until the next write, so
+ *       repeated full reads between writes cost nothing and never observe a half-applied change.</li>
+ * </ul>
+ */
+public class InMemoryMockEmployeeStore implements MockEmployeeStore {
+
+    private final Map<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, MockEmployee> ordered = new TreeMap<>();
+    private final Map<UUID, Long> sequenceById = new HashMap<>();
+    private final Map<String, LinkedHashSet<UUID>> byName = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile List<MockEmployee> snapshot = List.of();
+    private long sequence;
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    @Override
+    public void add(@NonNull MockEmployee employee) {
+        lock.writeLock().lock();
+        try {
+            insert(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void addAll(@NonNull List<MockEmployee> employees) {
+        lock.writeLock().lock();
+        try {
+            employees.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insert(MockEmployee employee) {
+        Long previous = sequenceById.put(employee.getId(), ++sequence);
+        if (previous != null) {
+            unindexName(ordered.remove(previous));
+        }
+        ordered.put(sequence, employee);
+        byId.put(employee.getId(), employee);
+        if (employee.getName() != null) {
+            byName.computeIfAbsent(fold(employee.getName()), ignored -> new LinkedHashSet<>())
+                    .add(employee.getId());
+        }
+        snapshot = null;
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        lock.writeLock().lock();
+        try {
+            LinkedHashSet<UUID> ids = byName.get(fold(name));
+            if (ids == null) {
+                return Optional.empty();
+            }
+            Iterator<UUID> first = ids.iterator();
+            return removeById(first.next());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        lock.writeLock().lock();
+        try {
+            Long position = sequenceById.remove(id);
+            if (position == null) {
+                return Optional.empty();
+            }
+            MockEmployee removed = ordered.remove(position);
+            byId.remove(id);
+            unindexName(removed);
+            snapshot = null;
+            return Optional.of(removed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MockEmployee> snapshot() {
+        List<MockEmployee> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.readLock().lock();
+        try {
+            current = snapshot;
+            if (current == null) {
+                current = List.copyOf(ordered.values());
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public MockEmployeePage page(long cursor, int limit) {
+        lock.readLock().lock();
+        try {
+            List<MockEmployee> employees = new ArrayList<>(Math.min(limit, ordered.size()));
+            long last = cursor;
+            for (Map.Entry<Long, MockEmployee> entry :
+                    ordered.tailMap(cursor, false).entrySet()) {
+                if (employees.size() == limit) {
+                    return new MockEmployeePage(employees, last);
+                }
+                employees.add(entry.getValue());
+                last = entry.getKey();
+            }
+            return new MockEmployeePage(employees, -1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return byId.size();
+    }
+
+    private void unindexName(MockEmployee employee) {
+        if (employee.getName() == null) {
+            return;
+        }
+        String key = fold(employee.getName());
+        LinkedHashSet<UUID> ids = byName.get(key);
+        if (ids != null) {
+            ids.remove(employee.getId());
+            if (ids.isEmpty()) {
+                byName.remove(key);
+            }
+        }
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
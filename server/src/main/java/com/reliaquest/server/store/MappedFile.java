@@ -0,0 +1,107 @@
+package com.reliaquest.server.store;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A file mapped read-write in fixed-size segments, with segments added as the file grows. Callers lay their data out
+ * so that no value straddles two segments.
+ */
+final class MappedFile implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final int segmentSize;
+    private volatile Region region;
+
+    MappedFile(Path path, int segmentSize) throws IOException {
+        this.channel =
+                FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        this.segmentSize = segmentSize;
+        this.region = new Region(new MappedByteBuffer[0], segmentSize);
+        ensureCapacity(Math.max(channel.size(), 1));
+    }
+
+    /**
+     * The segments mapped so far. A region stays readable after the file grows, is compacted away or is closed, so
+     * readers may keep one for as long as they only look at data that existed when they took it.
+     */
+    Region region() {
+        return region;
+    }
+
+    /** Maps (and so extends the file to) whole segments until {@code end} bytes are addressable. */
+    void ensureCapacity(long end) throws IOException {
+        Region current = region;
+        int needed = (int) ((end + segmentSize - 1) / segmentSize);
+        if (needed <= current.segments.length) {
+            return;
+        }
+        MappedByteBuffer[] grown = Arrays.copyOf(current.segments, needed);
+        for (int i = current.segments.length; i < needed; i++) {
+            grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i * segmentSize, segmentSize);
+        }
+        region = new Region(grown, segmentSize);
+    }
+
+    void force() {
+        for (MappedByteBuffer segment : region.segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /** Absolute, position-free accessors over a fixed set of segments; safe for concurrent readers. */
+    static final class Region {
+
+        private final MappedByteBuffer[] segments;
+        private final int segmentSize;
+
+        private Region(MappedByteBuffer[] segments, int segmentSize) {
+            this.segments = segments;
+            this.segmentSize = segmentSize;
+        }
+
+        int getInt(long position) {
+            return segment(position).getInt(offset(position));
+        }
+
+        long getLong(long position) {
+            return segment(position).getLong(offset(position));
+        }
+
+        byte[] getBytes(long position, int length) {
+            byte[] bytes = new byte[length];
+            segment(position).get(offset(position), bytes);
+            return bytes;
+        }
+
+        void putInt(long position, int value) {
+            segment(position).putInt(offset(position), value);
+        }
+
+        void putLong(long position, long value) {
+            segment(position).putLong(offset(position), value);
+        }
+
+        void putBytes(long position, byte[] bytes) {
+            segment(position).put(offset(position), bytes);
+        }
+
+        private MappedByteBuffer segment(long position) {
+            return segments[(int) (position / segmentSize)];
+        }
+
+        private int offset(long position) {
+            return (int) (position % segmentSize);
+        }
+    }
+}
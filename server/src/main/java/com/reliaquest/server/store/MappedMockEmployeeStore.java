@@ -0,0 +1,736 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Disk-backed store that keeps employees in memory-mapped files instead of on the heap, and keeps them across
+ * restarts.
+ *
+ * <ul>
+ *   <li>{@code employees.dat} holds one fixed-width record per employee in insertion order: the UUID as two longs,
+ *       offsets of the name, title and email in the string region, salary and age as ints, presence and tombstone
+ *       flags, and the hash of the case-folded name. Creates are appended; the record count in the header is
+ *       written last and is the commit point.</li>
+ *   <li>{@code strings-<generation>.dat} holds length-prefixed UTF-8 strings. Titles and emails repeat a lot and are
+ *       interned, so equal values share one entry.</li>
+ *   <li>Deletes only set a tombstone flag. Once a quarter of the records are tombstones the store is compacted into
+ *       a new generation of both files, which replaces the old one with an atomic rename.</li>
+ *   <li>The heap holds only primitive indexes: an open-addressing table from UUID to record number and per-name-hash
+ *       chains for {@link #removeFirstByName}. Both are rebuilt from the records file on open without touching the
+ *       string region.</li>
+ * </ul>
+ *
+ * <p>Pagination cursors are record positions, so a walk across pages that spans a compaction may repeat or skip
+ * employees.
+ */
+@Slf4j
+public class MappedMockEmployeeStore implements MockEmployeeStore, AutoCloseable {
+
+    static final String RECORDS_FILE = "employees.dat";
+
+    private static final int MAGIC = 0x4D4B5354; // "MKST"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int RECORD_SIZE = 56;
+    private static final int RECORDS_PER_SEGMENT = 1 << 18;
+    private static final int STRING_SEGMENT_SIZE = 1 << 24;
+
+    // The header occupies the first record slot.
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_COUNT = 8;
+    private static final int HEADER_TOMBSTONES = 16;
+    private static final int HEADER_STRINGS_END = 24;
+    private static final int HEADER_GENERATION = 32;
+
+    private static final int FIELD_MSB = 0;
+    private static final int FIELD_LSB = 8;
+    private static final int FIELD_NAME = 16;
+    private static final int FIELD_TITLE = 24;
+    private static final int FIELD_EMAIL = 32;
+    private static final int FIELD_SALARY = 40;
+    private static final int FIELD_AGE = 44;
+    private static final int FIELD_FLAGS = 48;
+    private static final int FIELD_NAME_HASH = 52;
+
+    private static final int DELETED = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_SALARY = 1 << 2;
+    private static final int HAS_AGE = 1 << 3;
+
+    private static final long NO_STRING = -1;
+    private static final int MAX_INTERNED = 1 << 16;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+
+    private final Path directory;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Generation current;
+    private IdIndex ids;
+    private NameIndex names;
+    private volatile List<MockEmployee> snapshot;
+
+    private MappedMockEmployeeStore(Path directory) throws IOException {
+        this.directory = directory;
+        this.current = Generation.open(directory, directory.resolve(RECORDS_FILE));
+        deleteStaleStringFiles();
+        rebuildIndexes();
+    }
+
+    /** Opens the store in {@code directory}, creating an empty one if there is none yet. */
+    public static MappedMockEmployeeStore open(@NonNull Path directory) {
+        try {
+            Files.createDirectories(directory);
+            return new MappedMockEmployeeStore(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open mock employee store in " + directory, ex);
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        lock.readLock().lock();
+        try {
+            int record = ids.find(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return record < 0 || current.isDeleted(record) ? Optional.empty() : Optional.of(current.read(record));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(@NonNull MockEmployee employee) {
+        lock.writeLock().lock();
+        try {
+            insert(employee);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void addAll(@NonNull List<MockEmployee> employees) {
+        lock.writeLock().lock();
+        try {
+            for (MockEmployee employee : employees) {
+                insert(employee);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insert(MockEmployee employee) throws IOException {
+        long msb = employee.getId().getMostSignificantBits();
+        long lsb = employee.getId().getLeastSignificantBits();
+        int previous = ids.find(msb, lsb);
+        if (previous >= 0 && !current.isDeleted(previous)) {
+            current.markDeleted(previous);
+        }
+        int record = current.append(employee);
+        ids.put(record, msb, lsb);
+        if (employee.getName() != null) {
+            names.append(record, fold(employee.getName()).hashCode());
+        }
+        snapshot = null;
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        lock.writeLock().lock();
+        try {
+            String folded = fold(name);
+            for (int record = names.head(folded.hashCode()); record >= 0; record = names.next(record)) {
+                if (current.isDeleted(record)) {
+                    continue;
+                }
+                String candidate = current.name(record);
+                if (candidate != null && folded.equals(fold(candidate))) {
+                    return Optional.of(remove(record));
+                }
+            }
+            return Optional.empty();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        lock.writeLock().lock();
+        try {
+            int record = ids.find(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (record < 0 || current.isDeleted(record)) {
+                return Optional.empty();
+            }
+            return Optional.of(remove(record));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private MockEmployee remove(int record) throws IOException {
+        MockEmployee removed = current.read(record);
+        current.markDeleted(record);
+        snapshot = null;
+        if (current.tombstones >= MIN_TOMBSTONES_TO_COMPACT && current.tombstones * 4L >= current.count) {
+            compactLocked();
+        }
+        return removed;
+    }
+
+    /**
+     * A point-in-time list that reads each employee from the mapped records when it is asked for, so even a very
+     * large roster costs only one int per employee on the heap.
+     */
+    @Override
+    public List<MockEmployee> snapshot() {
+        List<MockEmployee> cached = snapshot;
+        if (cached != null) {
+            return cached;
+        }
+        lock.readLock().lock();
+        try {
+            cached = snapshot;
+            if (cached == null) {
+                int[] live = new int[current.count - current.tombstones];
+                int next = 0;
+                for (int record = 0; record < current.count; record++) {
+                    if (!current.isDeleted(record)) {
+                        live[next++] = record;
+                    }
+                }
+                cached = new SnapshotView(current, live);
+                snapshot = cached;
+            }
+            return cached;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public MockEmployeePage page(long cursor, int limit) {
+        lock.readLock().lock();
+        try {
+            List<MockEmployee> employees = new ArrayList<>(Math.min(limit, current.count - current.tombstones));
+            for (long record = Math.max(cursor, 0); record < current.count; record++) {
+                if (current.isDeleted((int) record)) {
+                    continue;
+                }
+                if (employees.size() == limit) {
+                    return new MockEmployeePage(employees, record);
+                }
+                employees.add(current.read((int) record));
+            }
+            return new MockEmployeePage(employees, -1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.count - current.tombstones;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Rewrites the live records into a new generation of files, dropping tombstones and unreferenced strings. */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not compact mock employee store in " + directory, ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactLocked() throws IOException {
+        long started = System.nanoTime();
+        int before = current.count;
+        Path recordsPath = directory.resolve(RECORDS_FILE);
+        Path compacting = directory.resolve(RECORDS_FILE + ".compacting");
+        Files.deleteIfExists(compacting);
+        Files.deleteIfExists(Generation.stringsPath(directory, current.generation + 1));
+        Generation next = Generation.create(directory, compacting, current.generation + 1);
+        try {
+            for (int record = 0; record < current.count; record++) {
+                if (!current.isDeleted(record)) {
+                    next.append(current.read(record));
+                }
+            }
+            next.force();
+        } catch (IOException | RuntimeException ex) {
+            next.close();
+            Files.deleteIfExists(compacting);
+            throw ex;
+        }
+        // The new generation stays mapped across the rename; only readers of the old one still need its mappings.
+        Path oldStrings = Generation.stringsPath(directory, current.generation);
+        current.close();
+        Files.move(compacting, recordsPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(oldStrings);
+        current = next;
+        rebuildIndexes();
+        snapshot = null;
+        log.info(
+                "Compacted {} from {} to {} records in {} ms",
+                directory,
+                before,
+                current.count,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void rebuildIndexes() {
+        ids = new IdIndex(current.count);
+        names = new NameIndex(current.count);
+        for (int record = 0; record < current.count; record++) {
+            int flags = current.flags(record);
+            if ((flags & DELETED) != 0) {
+                continue;
+            }
+            ids.put(record, current.msb(record), current.lsb(record));
+            if ((flags & HAS_NAME) != 0) {
+                names.append(record, current.nameHash(record));
+            }
+        }
+    }
+
+    private void deleteStaleStringFiles() throws IOException {
+        Path keep = Generation.stringsPath(directory, current.generation);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "strings-*.dat")) {
+            for (Path file : files) {
+                if (!file.equals(keep)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            current.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /** One records file and the string region its offsets point into. */
+    private static final class Generation implements AutoCloseable {
+
+        private final MappedFile records;
+        private final MappedFile strings;
+        private final Map<String, Long> interned = new HashMap<>();
+        private final long generation;
+        private int count;
+        private int tombstones;
+        private long stringsEnd;
+
+        private Generation(MappedFile records, MappedFile strings, long generation) {
+            this.records = records;
+            this.strings = strings;
+            this.generation = generation;
+        }
+
+        static Path stringsPath(Path directory, long generation) {
+            return directory.resolve("strings-" + generation + ".dat");
+        }
+
+        static Generation open(Path directory, Path recordsPath) throws IOException {
+            MappedFile records = new MappedFile(recordsPath, RECORD_SIZE * RECORDS_PER_SEGMENT);
+            MappedFile.Region header = records.region();
+            if (header.getInt(HEADER_MAGIC) == 0) {
+                records.close();
+                return create(directory, recordsPath, 0);
+            }
+            if (header.getInt(HEADER_MAGIC) != MAGIC || header.getInt(HEADER_VERSION) != FORMAT_VERSION) {
+                records.close();
+                throw new IllegalStateException(
+                        recordsPath + " is not a mock employee store in format " + FORMAT_VERSION);
+            }
+            long generation = header.getLong(HEADER_GENERATION);
+            Generation opened = new Generation(
+                    records, new MappedFile(stringsPath(directory, generation), STRING_SEGMENT_SIZE), generation);
+            opened.count = (int) header.getLong(HEADER_COUNT);
+            opened.tombstones = (int) header.getLong(HEADER_TOMBSTONES);
+            opened.stringsEnd = header.getLong(HEADER_STRINGS_END);
+            records.ensureCapacity(position(opened.count));
+            opened.strings.ensureCapacity(Math.max(opened.stringsEnd, 1));
+            return opened;
+        }
+
+        static Generation create(Path directory, Path recordsPath, long generation) throws IOException {
+            Generation created = new Generation(
+                    new MappedFile(recordsPath, RECORD_SIZE * RECORDS_PER_SEGMENT),
+                    new MappedFile(stringsPath(directory, generation), STRING_SEGMENT_SIZE),
+                    generation);
+            MappedFile.Region header = created.records.region();
+            header.putInt(HEADER_VERSION, FORMAT_VERSION);
+            header.putLong(HEADER_GENERATION, generation);
+            created.writeHeader();
+            header.putInt(HEADER_MAGIC, MAGIC);
+            return created;
+        }
+
+        private static long position(int record) {
+            return (long) (record + 1) * RECORD_SIZE;
+        }
+
+        int append(MockEmployee employee) throws IOException {
+            long name = writeString(employee.getName(), false);
+            long title = writeString(employee.getTitle(), true);
+            long email = writeString(employee.getEmail(), true);
+            int record = count;
+            long at = position(record);
+            records.ensureCapacity(at + RECORD_SIZE);
+            MappedFile.Region region = records.region();
+            region.putLong(at + FIELD_MSB, employee.getId().getMostSignificantBits());
+            region.putLong(at + FIELD_LSB, employee.getId().getLeastSignificantBits());
+            region.putLong(at + FIELD_NAME, name);
+            region.putLong(at + FIELD_TITLE, title);
+            region.putLong(at + FIELD_EMAIL, email);
+            region.putInt(at + FIELD_SALARY, employee.getSalary() == null ? 0 : employee.getSalary());
+            region.putInt(at + FIELD_AGE, employee.getAge() == null ? 0 : employee.getAge());
+            region.putInt(
+                    at + FIELD_FLAGS,
+                    (employee.getName() != null ? HAS_NAME : 0)
+                            | (employee.getSalary() != null ? HAS_SALARY : 0)
+                            | (employee.getAge() != null ? HAS_AGE : 0));
+            region.putInt(
+                    at + FIELD_NAME_HASH,
+                    employee.getName() == null ? 0 : fold(employee.getName()).hashCode());
+            count++;
+            writeHeader();
+            return record;
+        }
+
+        void markDeleted(int record) {
+            long at = position(record) + FIELD_FLAGS;
+            MappedFile.Region region = records.region();
+            region.putInt(at, region.getInt(at) | DELETED);
+            tombstones++;
+            writeHeader();
+        }
+
+        private void writeHeader() {
+            MappedFile.Region header = records.region();
+            header.putLong(HEADER_STRINGS_END, stringsEnd);
+            header.putLong(HEADER_TOMBSTONES, tombstones);
+            header.putLong(HEADER_COUNT, count);
+        }
+
+        /** Strings never straddle a segment; one that does not fit in the current segment starts the next. */
+        private long writeString(String value, boolean intern) throws IOException {
+            if (value == null) {
+                return NO_STRING;
+            }
+            if (intern) {
+                Long known = interned.get(value);
+                if (known != null) {
+                    return known;
+                }
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int length = Integer.BYTES + bytes.length;
+            if (length > STRING_SEGMENT_SIZE) {
+                throw new IllegalArgumentException("String of " + bytes.length + " bytes is too long to store");
+            }
+            long at = stringsEnd;
+            if (at % STRING_SEGMENT_SIZE + length > STRING_SEGMENT_SIZE) {
+                at = (at / STRING_SEGMENT_SIZE + 1) * STRING_SEGMENT_SIZE;
+            }
+            strings.ensureCapacity(at + length);
+            MappedFile.Region region = strings.region();
+            region.putInt(at, bytes.length);
+            region.putBytes(at + Integer.BYTES, bytes);
+            stringsEnd = at + length;
+            if (intern && interned.size() < MAX_INTERNED) {
+                interned.put(value, at);
+            }
+            return at;
+        }
+
+        int flags(int record) {
+            return records.region().getInt(position(record) + FIELD_FLAGS);
+        }
+
+        boolean isDeleted(int record) {
+            return (flags(record) & DELETED) != 0;
+        }
+
+        long msb(int record) {
+            return records.region().getLong(position(record) + FIELD_MSB);
+        }
+
+        long lsb(int record) {
+            return records.region().getLong(position(record) + FIELD_LSB);
+        }
+
+        int nameHash(int record) {
+            return records.region().getInt(position(record) + FIELD_NAME_HASH);
+        }
+
+        String name(int record) {
+            return readString(strings.region(), records.region().getLong(position(record) + FIELD_NAME));
+        }
+
+        MockEmployee read(int record) {
+            return readEmployee(records.region(), strings.region(), record);
+        }
+
+        static MockEmployee readEmployee(MappedFile.Region records, MappedFile.Region strings, int record) {
+            long at = position(record);
+            int flags = records.getInt(at + FIELD_FLAGS);
+            return new MockEmployee(
+                    new UUID(records.getLong(at + FIELD_MSB), records.getLong(at + FIELD_LSB)),
+                    readString(strings, records.getLong(at + FIELD_NAME)),
+                    (flags & HAS_SALARY) != 0 ? records.getInt(at + FIELD_SALARY) : null,
+                    (flags & HAS_AGE) != 0 ? records.getInt(at + FIELD_AGE) : null,
+                    readString(strings, records.getLong(at + FIELD_TITLE)),
+                    readString(strings, records.getLong(at + FIELD_EMAIL)));
+        }
+
+        private static String readString(MappedFile.Region strings, long at) {
+            if (at == NO_STRING) {
+                return null;
+            }
+            int length = strings.getInt(at);
+            return new String(strings.getBytes(at + Integer.BYTES, length), StandardCharsets.UTF_8);
+        }
+
+        void force() {
+            records.force();
+            strings.force();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                records.close();
+            } finally {
+                strings.close();
+            }
+        }
+    }
+
+    /**
+     * Reads employees from the regions that were mapped when it was taken. Records are never changed after they are
+     * appended (tombstones aside, which this view ignores), so it stays consistent while writes and compactions go on.
+     */
+    private static final class SnapshotView extends AbstractList<MockEmployee> implements RandomAccess {
+
+        private final MappedFile.Region records;
+        private final MappedFile.Region strings;
+        private final int[] live;
+
+        SnapshotView(Generation generation, int[] live) {
+            this.records = generation.records.region();
+            this.strings = generation.strings.region();
+            this.live = live;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            return Generation.readEmployee(records, strings, live[index]);
+        }
+
+        @Override
+        public int size() {
+            return live.length;
+        }
+    }
+
+    /**
+     * Open-addressing table from UUID to record number. Slots hold {@code record + 1}; the UUID itself is read back
+     * from the records file, so each entry costs one int.
+     */
+    private final class IdIndex {
+
+        private int[] slots;
+        private int size;
+
+        IdIndex(int expected) {
+            slots = new int[tableSize(expected)];
+        }
+
+        int find(long msb, long lsb) {
+            int mask = slots.length - 1;
+            for (int slot = hash(msb, lsb) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+                int record = slots[slot] - 1;
+                if (current.msb(record) == msb && current.lsb(record) == lsb) {
+                    return record;
+                }
+            }
+            return -1;
+        }
+
+        /** Points the UUID at {@code record}, replacing an older record with the same UUID. */
+        void put(int record, long msb, long lsb) {
+            if ((size + 1) * 2 > slots.length) {
+                resize();
+            }
+            int mask = slots.length - 1;
+            int slot = hash(msb, lsb) & mask;
+            while (slots[slot] != 0) {
+                int existing = slots[slot] - 1;
+                if (current.msb(existing) == msb && current.lsb(existing) == lsb) {
+                    slots[slot] = record + 1;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = record + 1;
+            size++;
+        }
+
+        private void resize() {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            int mask = slots.length - 1;
+            for (int entry : old) {
+                if (entry != 0) {
+                    int record = entry - 1;
+                    int slot = hash(current.msb(record), current.lsb(record)) & mask;
+                    while (slots[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    slots[slot] = entry;
+                }
+            }
+        }
+
+        private static int hash(long msb, long lsb) {
+            long h = msb ^ Long.rotateLeft(lsb, 32);
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            return (int) h;
+        }
+    }
+
+    /**
+     * Records chained in insertion order per case-folded name hash. Chains may hold colliding names and tombstoned
+     * records; callers compare the stored name and skip deleted records.
+     */
+    private static final class NameIndex {
+
+        private int[] hashes;
+        private int[] heads;
+        private int[] tails;
+        private int[] next;
+        private int size;
+
+        NameIndex(int expected) {
+            int tableSize = tableSize(expected);
+            hashes = new int[tableSize];
+            heads = new int[tableSize];
+            tails = new int[tableSize];
+            next = new int[Math.max(expected, 16)];
+        }
+
+        int head(int hash) {
+            int slot = slotOf(hash);
+            return heads[slot] - 1;
+        }
+
+        int next(int record) {
+            return record < next.length ? next[record] - 1 : -1;
+        }
+
+        void append(int record, int hash) {
+            if ((size + 1) * 2 > heads.length) {
+                resize();
+            }
+            if (record >= next.length) {
+                next = Arrays.copyOf(next, Math.max(record + 1, next.length * 2));
+            }
+            next[record] = 0;
+            int slot = slotOf(hash);
+            if (heads[slot] == 0) {
+                hashes[slot] = hash;
+                heads[slot] = record + 1;
+                size++;
+            } else {
+                next[tails[slot] - 1] = record + 1;
+            }
+            tails[slot] = record + 1;
+        }
+
+        /** The slot holding {@code hash}, or the empty slot where it would go. */
+        private int slotOf(int hash) {
+            int mask = heads.length - 1;
+            int slot = mix(hash) & mask;
+            while (heads[slot] != 0 && hashes[slot] != hash) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void resize() {
+            int[] oldHashes = hashes;
+            int[] oldHeads = heads;
+            int[] oldTails = tails;
+            hashes = new int[oldHeads.length * 2];
+            heads = new int[oldHeads.length * 2];
+            tails = new int[oldHeads.length * 2];
+            for (int i = 0; i < oldHeads.length; i++) {
+                if (oldHeads[i] != 0) {
+                    int slot = slotOf(oldHashes[i]);
+                    hashes[slot] = oldHashes[i];
+                    heads[slot] = oldHeads[i];
+                    tails[slot] = oldTails[i];
+                }
+            }
+        }
+
+        private static int mix(int hash) {
+            int h = hash * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    private static int tableSize(int expected) {
+        return Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) << 1;
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates the seed roster in parallel and reproducibly.
+ *
+ * <ul>
+ *   <li>Datafaker is only used up front, to draw pools of first names, last names, job titles and user names from
+ *       a {@link Faker} seeded with {@code seed}. Employees are then assembled from the pools with plain constructor
+ *       calls, which is orders of magnitude cheaper than evaluating Faker expressions and reflecting per object.
+ *       Emails take a pooled user name and a suffix drawn per employee, so they stay effectively unique.</li>
+ *   <li>The roster is cut into fixed-size chunks, each drawing from its own {@link SplittableRandom} split off a
+ *       root generator in chunk order. Chunks run on the common fork-join pool, and the result is the same for a
+ *       given seed and count however many cores did the work.</li>
+ * </ul>
+ */
+public class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 8192;
+    static final int POOL_SIZE = 1024;
+
+    private final long seed;
+    private final Locale locale;
+    private final String[] firstNames = new String[POOL_SIZE];
+    private final String[] lastNames = new String[POOL_SIZE];
+    private final String[] titles = new String[POOL_SIZE];
+    private final String[] userNames = new String[POOL_SIZE];
+
+    public MockEmployeeGenerator(long seed, Locale locale) {
+        this.seed = seed;
+        this.locale = locale;
+        Faker faker = new Faker(locale, new Random(seed));
+        for (int i = 0; i < POOL_SIZE; i++) {
+            firstNames[i] = faker.name().firstName();
+            lastNames[i] = faker.name().lastName();
+            titles[i] = faker.job().title();
+            userNames[i] = faker.twitter().userName().toLowerCase();
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /** {@code count} employees in a stable order; the same seed and count always give the same roster. */
+    public List<MockEmployee> generate(int count) {
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            randoms[chunk] = root.split();
+        }
+        List<MockEmployee> employees = new ArrayList<>(count);
+        IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> generateChunk(randoms[chunk], Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .forEachOrdered(employees::addAll);
+        return employees;
+    }
+
+    private List<MockEmployee> generateChunk(SplittableRandom random, int size) {
+        List<MockEmployee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new MockEmployee(
+                    randomUuid(random),
+                    firstNames[random.nextInt(POOL_SIZE)] + " " + lastNames[random.nextInt(POOL_SIZE)],
+                    random.nextInt(30000, 500000),
+                    random.nextInt(16, 70),
+                    titles[random.nextInt(POOL_SIZE)],
+                    email(random)));
+        }
+        return employees;
+    }
+
+    /** A pooled user name with 40 random bits in base 36, so a million-employee roster shares next to no email. */
+    private String email(SplittableRandom random) {
+        String suffix = Long.toString(random.nextLong() >>> 24, 36);
+        return ServerConfiguration.EMAIL_TEMPLATE.formatted(userNames[random.nextInt(POOL_SIZE)] + "." + suffix);
+    }
+
+    /** A version 4 (random) UUID drawn from {@code random} instead of {@code SecureRandom}. */
+    private static UUID randomUuid(SplittableRandom random) {
+        long mostSignificant = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
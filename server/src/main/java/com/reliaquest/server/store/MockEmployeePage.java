@@ -0,0 +1,15 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+
+/**
+ * One page of a cursor walk over the store in insertion order. {@code nextCursor} resumes after the last employee on
+ * this page and is {@code -1} once the walk has reached the end.
+ */
+public record MockEmployeePage(List<MockEmployee> employees, long nextCursor) {
+
+    public boolean hasMore() {
+        return nextCursor >= 0;
+    }
+}
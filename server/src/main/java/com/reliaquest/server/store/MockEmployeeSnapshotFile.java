@@ -0,0 +1,153 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compact binary copy of a generated roster, so a restart with the same seed and size reads the dataset back instead
+ * of generating it again.
+ *
+ * <p>Layout: magic, format version, seed, generator locale, record count, then per record the UUID as two longs, a presence byte for the
+ * nullable fields, salary and age as ints and the strings as modified UTF-8. Files written for another seed, locale
+ * or count, or in another format, are ignored and replaced.
+ */
+@Slf4j
+public class MockEmployeeSnapshotFile {
+
+    private static final int MAGIC = 0x4D4B454D; // "MKEM"
+    private static final int FORMAT_VERSION = 2;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final int HAS_NAME = 1;
+    private static final int HAS_SALARY = 1 << 1;
+    private static final int HAS_AGE = 1 << 2;
+    private static final int HAS_TITLE = 1 << 3;
+    private static final int HAS_EMAIL = 1 << 4;
+
+    private final Path path;
+
+    public MockEmployeeSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /** The roster stored for exactly this seed, locale and count, or empty when there is none. */
+    public Optional<List<MockEmployee>> read(long seed, Locale locale, int count) {
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                log.info("Ignoring {}: not a roster snapshot in the current format", path);
+                return Optional.empty();
+            }
+            long storedSeed = in.readLong();
+            String storedLocale = in.readUTF();
+            int storedCount = in.readInt();
+            if (storedSeed != seed || !storedLocale.equals(locale.toLanguageTag()) || storedCount != count) {
+                log.info(
+                        "Ignoring {}: holds {} employees for seed {} in {}, wanted {} for seed {} in {}",
+                        path,
+                        storedCount,
+                        storedSeed,
+                        storedLocale,
+                        count,
+                        seed,
+                        locale.toLanguageTag());
+                return Optional.empty();
+            }
+            List<MockEmployee> employees = new ArrayList<>(count);
+            Map<String, String> shared = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                employees.add(readEmployee(in, shared));
+            }
+            return Optional.of(employees);
+        } catch (NoSuchFileException ex) {
+            return Optional.empty();
+        } catch (IOException ex) {
+            log.warn("Ignoring unreadable roster snapshot {}: {}", path, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /** Writes to a sibling temporary file first and moves it into place, so readers never see a partial file. */
+    public void write(long seed, Locale locale, List<MockEmployee> employees) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(seed);
+                out.writeUTF(locale.toLanguageTag());
+                out.writeInt(employees.size());
+                for (MockEmployee employee : employees) {
+                    writeEmployee(out, employee);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write roster snapshot " + path, ex);
+        }
+    }
+
+    private static void writeEmployee(DataOutputStream out, MockEmployee employee) throws IOException {
+        out.writeLong(employee.getId().getMostSignificantBits());
+        out.writeLong(employee.getId().getLeastSignificantBits());
+        int flags = (employee.getName() != null ? HAS_NAME : 0)
+                | (employee.getSalary() != null ? HAS_SALARY : 0)
+                | (employee.getAge() != null ? HAS_AGE : 0)
+                | (employee.getTitle() != null ? HAS_TITLE : 0)
+                | (employee.getEmail() != null ? HAS_EMAIL : 0);
+        out.writeByte(flags);
+        if (employee.getSalary() != null) {
+            out.writeInt(employee.getSalary());
+        }
+        if (employee.getAge() != null) {
+            out.writeInt(employee.getAge());
+        }
+        if (employee.getName() != null) {
+            out.writeUTF(employee.getName());
+        }
+        if (employee.getTitle() != null) {
+            out.writeUTF(employee.getTitle());
+        }
+        if (employee.getEmail() != null) {
+            out.writeUTF(employee.getEmail());
+        }
+    }
+
+    /** Titles come from a small pool, so equal ones are read back as one shared string. */
+    private static MockEmployee readEmployee(DataInputStream in, Map<String, String> shared) throws IOException {
+        UUID id = new UUID(in.readLong(), in.readLong());
+        int flags = in.readUnsignedByte();
+        Integer salary = (flags & HAS_SALARY) != 0 ? in.readInt() : null;
+        Integer age = (flags & HAS_AGE) != 0 ? in.readInt() : null;
+        String name = (flags & HAS_NAME) != 0 ? in.readUTF() : null;
+        String title = (flags & HAS_TITLE) != 0 ? shared.computeIfAbsent(in.readUTF(), value -> value) : null;
+        String email = (flags & HAS_EMAIL) != 0 ? in.readUTF() : null;
+        return new MockEmployee(id, name, salary, age, title, email);
+    }
+}
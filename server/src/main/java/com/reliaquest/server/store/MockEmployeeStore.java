@@ -0,0 +1,37 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storage behind {@link com.reliaquest.server.service.MockEmployeeService}. Implementations must be safe for
+ * concurrent use from request threads, and reject {@code null} arguments with a {@link NullPointerException}.
+ */
+public interface MockEmployeeStore {
+
+    Optional<MockEmployee> findById(UUID id);
+
+    void add(MockEmployee employee);
+
+    /** Adds every employee in order, as one write where the implementation allows it. */
+    void addAll(List<MockEmployee> employees);
+
+    /** Removes the earliest added employee whose name matches ignoring case. */
+    Optional<MockEmployee> removeFirstByName(String name);
+
+    Optional<MockEmployee> removeById(UUID id);
+
+    /** Point-in-time, immutable copy of every employee in insertion order. */
+    List<MockEmployee> snapshot();
+
+    /**
+     * Up to {@code limit} employees added after the position {@code cursor} points at, in insertion order. Cursor
+     * {@code 0} starts from the beginning. Each page is consistent on its own; a walk across pages sees writes that
+     * land between them.
+     */
+    MockEmployeePage page(long cursor, int limit);
+
+    int size();
+}
@@ -0,0 +1,248 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client request limits without locks on the request path.
+ *
+ * <ul>
+ *   <li>Each client has its own bucket whose whole state is one {@code long}, updated with a single compare-and-set;
+ *       concurrent requests from the same client retry the CAS instead of racing a read and a separate write.</li>
+ *   <li>Buckets live in a fixed number of concurrent maps picked by the client key's hash, so the idle sweep walks
+ *       one small stripe at a time while requests keep going to the others.</li>
+ *   <li>A bucket is only evicted once it is back to the state of a new one (fully refilled, or its windows aged out)
+ *       and has been so for {@code idleTimeout}, so eviction never hands a client extra budget. A request racing the
+ *       eviction of its own bucket may go uncounted, which is at most one request.</li>
+ * </ul>
+ */
+public class ClientRateLimiter {
+
+    private static final int STRIPE_BITS = 4;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+
+    private final RateLimitAlgorithm algorithm;
+    private final int limit;
+    private final long periodNanos;
+    private final long idleNanos;
+    private final LongSupplier nanoClock;
+    private final long origin;
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<String, Bucket>[] stripes = new ConcurrentHashMap[STRIPES];
+
+    private final AtomicLong nextSweep;
+    private final AtomicInteger sweepCursor = new AtomicInteger();
+    private final LongAdder evictions = new LongAdder();
+
+    public ClientRateLimiter(RateLimitAlgorithm algorithm, int limit, Duration period, Duration idleTimeout) {
+        this(algorithm, limit, period, idleTimeout, System::nanoTime);
+    }
+
+    public ClientRateLimiter(
+            RateLimitAlgorithm algorithm, int limit, Duration period, Duration idleTimeout, LongSupplier nanoClock) {
+        if (limit < 1 || limit > SlidingWindow.MAX_COUNT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + SlidingWindow.MAX_COUNT);
+        }
+        if (period.isZero() || period.isNegative() || idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("period must be positive and idleTimeout not negative");
+        }
+        this.algorithm = algorithm;
+        this.limit = limit;
+        this.periodNanos = period.toNanos();
+        this.idleNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+        this.nextSweep = new AtomicLong(origin + sweepInterval());
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Outcome of one request.
+     *
+     * @param resetNanos until the client's budget is fully available again
+     * @param retryAfterNanos until a rejected request would be admitted; {@code 0} when admitted
+     */
+    public record Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {}
+
+    public Decision acquire(String client) {
+        long now = nanoClock.getAsLong();
+        if (now - nextSweep.get() >= 0) {
+            sweep(now);
+        }
+        ConcurrentHashMap<String, Bucket> stripe = stripes[stripe(client)];
+        Bucket bucket = stripe.get(client);
+        if (bucket == null) {
+            bucket = stripe.computeIfAbsent(client, ignored -> newBucket(now));
+        }
+        return bucket.acquire(now);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public Duration period() {
+        return Duration.ofNanos(periodNanos);
+    }
+
+    public RateLimitAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    /** Clients that currently hold a bucket. */
+    public int clients() {
+        int clients = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            clients += stripe.size();
+        }
+        return clients;
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private static int stripe(String client) {
+        return (client.hashCode() * 0x9E3779B9) >>> (Integer.SIZE - STRIPE_BITS);
+    }
+
+    private Bucket newBucket(long now) {
+        return algorithm == RateLimitAlgorithm.TOKEN_BUCKET ? new TokenBucket(now) : new SlidingWindow();
+    }
+
+    private long sweepInterval() {
+        return Math.max(periodNanos, idleNanos) / STRIPES;
+    }
+
+    /*
+     * Whoever wins the CAS on nextSweep walks one stripe; everyone else carries on, so a full pass over all buckets is
+     * spread over one idle timeout's worth of requests.
+     */
+    private void sweep(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + sweepInterval())) {
+            return;
+        }
+        ConcurrentHashMap<String, Bucket> stripe = stripes[sweepCursor.getAndIncrement() & (STRIPES - 1)];
+        stripe.values().removeIf(bucket -> {
+            if (bucket.idle(now)) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private abstract static class Bucket {
+
+        final AtomicLong state;
+
+        Bucket(long initial) {
+            this.state = new AtomicLong(initial);
+        }
+
+        abstract Decision acquire(long now);
+
+        abstract boolean idle(long now);
+    }
+
+    /*
+     * GCRA: the state is the theoretical arrival time (TAT) at which the bucket would be full again. Each request
+     * pushes it one emission interval (period / limit) further; a request that would push it more than one period
+     * ahead of now is over the burst and rejected without changing the state.
+     */
+    private final class TokenBucket extends Bucket {
+
+        private final long interval = Math.max(1, periodNanos / limit);
+
+        TokenBucket(long now) {
+            super(now);
+        }
+
+        @Override
+        Decision acquire(long now) {
+            while (true) {
+                long tat = state.get();
+                long next = (tat - now < 0 ? now : tat) + interval;
+                long ahead = next - now;
+                if (ahead > periodNanos) {
+                    return new Decision(false, limit, 0, tat - now, ahead - periodNanos);
+                }
+                if (state.compareAndSet(tat, next)) {
+                    return new Decision(true, limit, (int) ((periodNanos - ahead) / interval), ahead, 0);
+                }
+            }
+        }
+
+        @Override
+        boolean idle(long now) {
+            return now - state.get() >= idleNanos;
+        }
+    }
+
+    /*
+     * The state packs the number of the current fixed window (24 bits, wrapping) and the request counts of that
+     * window and the one before it (20 bits each). A request in a later window shifts the counts along before it is
+     * counted.
+     */
+    private final class SlidingWindow extends Bucket {
+
+        static final int MAX_COUNT = (1 << 20) - 1;
+        private static final long WINDOW_MASK = (1L << 24) - 1;
+
+        SlidingWindow() {
+            super(0);
+        }
+
+        @Override
+        Decision acquire(long now) {
+            long elapsed = now - origin;
+            long window = (elapsed / periodNanos) & WINDOW_MASK;
+            long into = elapsed % periodNanos;
+            long untilRoll = periodNanos - into;
+            while (true) {
+                long packed = state.get();
+                long lag = (window - (packed >>> 40)) & WINDOW_MASK;
+                long current = lag == 0 ? packed & MAX_COUNT : 0;
+                long previous = lag == 0 ? (packed >>> 20) & MAX_COUNT : lag == 1 ? packed & MAX_COUNT : 0;
+                long estimate = previous * untilRoll / periodNanos + current;
+                if (estimate >= limit) {
+                    long reset = current == 0 ? untilRoll : untilRoll + periodNanos;
+                    return new Decision(false, limit, 0, reset, retryAfter(previous, current, into, untilRoll));
+                }
+                long next = window << 40 | previous << 20 | (current + 1);
+                if (state.compareAndSet(packed, next)) {
+                    // this request weighs on the budget until the window after the current one is over
+                    return new Decision(true, limit, (int) (limit - estimate - 1), untilRoll + periodNanos, 0);
+                }
+            }
+        }
+
+        /*
+         * The earliest point at which the previous window's shrinking weight, rounded down as in the estimate, leaves
+         * room for one more request. When the current window alone is full, that is in the next window, where the
+         * current count becomes the previous one.
+         */
+        private long retryAfter(long previous, long current, long into, long untilRoll) {
+            if (current >= limit) {
+                return untilRoll + periodNanos - (limit * periodNanos - 1) / current;
+            }
+            long admitAt = periodNanos - ((limit - current) * periodNanos - 1) / previous;
+            return Math.max(1, admitAt - into);
+        }
+
+        @Override
+        boolean idle(long now) {
+            long window = ((now - origin) / periodNanos) & WINDOW_MASK;
+            long lag = (window - (state.get() >>> 40)) & WINDOW_MASK;
+            return lag >= 2 && (lag - 1) * periodNanos >= idleNanos;
+        }
+    }
+}
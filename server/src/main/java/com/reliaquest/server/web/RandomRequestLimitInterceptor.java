@@ -1,48 +1,67 @@
 package com.reliaquest.server.web;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.random.RandomGenerator;
-import lombok.Getter;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * Rejects requests over the caller's budget with 429 Too Many Requests. Callers are told apart by {@code clientHeader}
+ * when they send it, otherwise by remote address, and each one is limited by its own bucket in the
+ * {@link ClientRateLimiter}.
+ *
+ * <p>Every limited response carries {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining} and
+ * {@code X-RateLimit-Reset} (seconds until the budget is full again); a rejection also carries {@code Retry-After}
+ * (seconds until the next request would be admitted).
+ */
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String RESET_HEADER = "X-RateLimit-Reset";
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final ClientRateLimiter limiter;
+    private final String clientHeader;
+    private final Counter throttled;
+
+    public RandomRequestLimitInterceptor(ClientRateLimiter limiter, String clientHeader, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.clientHeader = clientHeader;
+        this.throttled = Counter.builder("mock.requests.throttled")
+                .description("Requests rejected with 429 Too Many Requests")
+                .register(meterRegistry);
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                return false;
-            }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
-            }
-        } else {
-            requestLimit.getAndUpdate(
-                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
+        // a streamed response's second dispatch belongs to a request that was already counted
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        final var decision = limiter.acquire(client(request));
+        response.setIntHeader(LIMIT_HEADER, decision.limit());
+        response.setIntHeader(REMAINING_HEADER, decision.remaining());
+        response.setHeader(RESET_HEADER, Long.toString(seconds(decision.resetNanos())));
+        if (decision.allowed()) {
+            return true;
         }
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, seconds(decision.retryAfterNanos()))));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        throttled.increment();
+        return false;
+    }
 
-        return true;
+    private String client(HttpServletRequest request) {
+        final var client = clientHeader.isEmpty() ? null : request.getHeader(clientHeader);
+        return client == null || client.isEmpty() ? request.getRemoteAddr() : client;
     }
 
-    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
-        public static RequestLimit init() {
-            return new RequestLimit(0, Instant.now());
-        }
+    private static long seconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
     }
 }
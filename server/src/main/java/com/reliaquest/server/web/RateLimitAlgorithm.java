@@ -0,0 +1,17 @@
+package com.reliaquest.server.web;
+
+/** How {@link ClientRateLimiter} counts each client's requests against its limit per period. */
+public enum RateLimitAlgorithm {
+
+    /**
+     * Up to {@code limit} requests in a burst, refilled evenly over {@code period}. Kept as a single theoretical
+     * arrival time (GCRA), so a full bucket and an idle one look the same.
+     */
+    TOKEN_BUCKET,
+
+    /**
+     * At most {@code limit} requests in any {@code period}, estimated from the counts of the current and the previous
+     * fixed window, the previous one weighted by how much of it still overlaps the sliding window.
+     */
+    SLIDING_WINDOW
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Holds every admitted request for a fixed time before it is handled, so the mock can stand in for a slow upstream.
+ * The request thread sleeps: on platform threads each held request occupies a Tomcat worker for the whole delay, on
+ * virtual threads it only parks. Streamed responses are dispatched a second time to write the body; that dispatch
+ * is not held again.
+ */
+@RequiredArgsConstructor
+public class SimulatedLatencyInterceptor implements HandlerInterceptor {
+
+    private final Duration latency;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        Thread.sleep(latency.toMillis());
+        return true;
+    }
+}
@@ -0,0 +1,202 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeChangeLog;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private final MockEmployeeChangeLog changeLog = new MockEmployeeChangeLog(2);
+
+    private final MockEmployeeService service =
+            new MockEmployeeService(new Faker(Locale.ROOT), new InMemoryMockEmployeeStore(), changeLog);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new MockEmployeeController(
+                        service,
+                        objectMapper,
+                        Validation.buildDefaultValidatorFactory().getValidator()))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(100);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private void create(String name) {
+        service.create(input(name));
+    }
+
+    private void createMany(int count) {
+        List<CreateMockEmployeeInput> inputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            inputs.add(input("Employee " + i));
+        }
+        service.createAll(inputs);
+    }
+
+    @Test
+    void testChangesCarryTheTagTheyLeadTo() throws Exception {
+        String start = changeLog.tag();
+        create("Alice");
+
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "W/\"" + start + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"" + changeLog.tag() + "\""))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].type").value("CREATED"))
+                .andExpect(jsonPath("$.data[0].employee.employee_name").value("Alice"));
+    }
+
+    @Test
+    void testChangesBeyondTheLogAreGone() throws Exception {
+        String start = changeLog.tag();
+        create("Alice");
+        create("Bob");
+        create("Carol");
+
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", start)).andExpect(status().isGone());
+    }
+
+    @Test
+    void testMalformedTagIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "not-a-tag"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid roster tag: not-a-tag"));
+    }
+
+    @Test
+    void testCursorPagesWalkTheRosterInOrder() throws Exception {
+        createMany(5);
+
+        String next = mockMvc.perform(
+                        get("/api/v1/employee").param("cursor", "").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 0"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Employee 1"))
+                .andReturn()
+                .getResponse()
+                .getHeader(MockEmployeeController.NEXT_CURSOR_HEADER);
+        assertNotNull(next);
+
+        String last = mockMvc.perform(
+                        get("/api/v1/employee").param("cursor", next).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 2"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Employee 3"))
+                .andReturn()
+                .getResponse()
+                .getHeader(MockEmployeeController.NEXT_CURSOR_HEADER);
+        assertNotNull(last);
+
+        mockMvc.perform(get("/api/v1/employee").param("cursor", last).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 4"))
+                .andExpect(header().doesNotExist(MockEmployeeController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void testOffsetPagesCarryTheTotal() throws Exception {
+        createMany(5);
+
+        mockMvc.perform(get("/api/v1/employee").param("offset", "0").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, "5"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 0"));
+        mockMvc.perform(get("/api/v1/employee").param("offset", "2").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 2"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Employee 3"));
+        mockMvc.perform(get("/api/v1/employee").param("offset", "4").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, "5"))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 4"));
+        mockMvc.perform(get("/api/v1/employee").param("offset", "9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(0));
+    }
+
+    @Test
+    void testInvalidPagingParametersAreBadRequest() throws Exception {
+        createMany(1);
+
+        mockMvc.perform(get("/api/v1/employee").param("cursor", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid cursor: -1"));
+        mockMvc.perform(get("/api/v1/employee").param("cursor", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid cursor: abc"));
+        mockMvc.perform(get("/api/v1/employee").param("offset", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("offset must not be negative"));
+        mockMvc.perform(get("/api/v1/employee").param("offset", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid offset: abc"));
+        mockMvc.perform(get("/api/v1/employee").param("cursor", "").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("limit must be positive"));
+    }
+
+    @Test
+    void testStreamWritesOneLinePerEmployee() throws Exception {
+        // more than one page of the stream
+        createMany(2_345);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/employee/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MockEmployeeController.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<String> expected = new ArrayList<>();
+        for (MockEmployee employee : service.getMockEmployees()) {
+            expected.add(objectMapper.writeValueAsString(employee));
+        }
+        assertEquals(2_345, expected.size());
+        assertTrue(body.endsWith("\n"));
+        assertEquals(expected, List.of(body.split("\n")));
+    }
+}
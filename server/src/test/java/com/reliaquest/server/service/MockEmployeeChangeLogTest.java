@@ -0,0 +1,128 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeChangeLogTest {
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 100, 30, "Engineer", name + "@company.com");
+    }
+
+    private static String tagAt(MockEmployeeChangeLog log, long version) {
+        String tag = log.tag();
+        return tag.substring(0, tag.lastIndexOf('-') + 1) + version;
+    }
+
+    private static void change(MockEmployeeChangeLog log, int times) {
+        for (int i = 0; i < times; i++) {
+            log.created(List.of(employee("Emp" + i)));
+        }
+    }
+
+    private static List<Long> versions(Optional<MockEmployeeChangeLog.Changes> changes) {
+        return changes.orElseThrow().changes().stream()
+                .map(MockEmployeeChange::version)
+                .toList();
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    @Test
+    void testChangesSinceTagAreListedInOrder() {
+        MockEmployeeChangeLog log = new MockEmployeeChangeLog(8);
+        String start = log.tag();
+        MockEmployee alice = employee("Alice");
+        MockEmployee bob = employee("Bob");
+        log.created(List.of(alice, bob));
+        log.deleted(alice);
+
+        MockEmployeeChangeLog.Changes changes = log.since(start).orElseThrow();
+        assertEquals(
+                List.of(
+                        new MockEmployeeChange(1, MockEmployeeChange.Type.CREATED, alice),
+                        new MockEmployeeChange(2, MockEmployeeChange.Type.CREATED, bob),
+                        new MockEmployeeChange(3, MockEmployeeChange.Type.DELETED, alice)),
+                changes.changes());
+        assertEquals(log.tag(), changes.tag());
+        assertEquals(3, log.version());
+
+        MockEmployeeChangeLog.Changes none = log.since(log.tag()).orElseThrow();
+        assertEquals(List.of(), none.changes());
+        assertEquals(log.tag(), none.tag());
+    }
+
+    @Test
+    void testLogReachesBackExactlyCapacityChanges() {
+        MockEmployeeChangeLog log = new MockEmployeeChangeLog(4);
+        String start = log.tag();
+        change(log, 4);
+        assertEquals(range(1, 4), versions(log.since(start)));
+
+        change(log, 1);
+        assertEquals(Optional.empty(), log.since(start));
+        assertEquals(range(2, 5), versions(log.since(tagAt(log, 1))));
+
+        // several times around the ring
+        change(log, 9);
+        assertEquals(Optional.empty(), log.since(tagAt(log, 9)));
+        assertEquals(range(11, 14), versions(log.since(tagAt(log, 10))));
+        assertEquals(range(14, 14), versions(log.since(tagAt(log, 13))));
+    }
+
+    @Test
+    void testZeroCapacityOnlyConfirmsTheCurrentTag() {
+        for (int capacity : new int[] {0, -1}) {
+            MockEmployeeChangeLog log = new MockEmployeeChangeLog(capacity);
+            assertEquals(0, log.capacity());
+            String start = log.tag();
+            assertEquals(List.of(), log.since(start).orElseThrow().changes());
+
+            change(log, 1);
+            assertEquals(Optional.empty(), log.since(start));
+            assertEquals(List.of(), log.since(log.tag()).orElseThrow().changes());
+        }
+    }
+
+    @Test
+    void testTagOfAnotherRunOrFromTheFutureHasNoChanges() {
+        MockEmployeeChangeLog log = new MockEmployeeChangeLog(4);
+        MockEmployeeChangeLog earlierRun = new MockEmployeeChangeLog(4);
+        String foreign = earlierRun.tag();
+        change(log, 2);
+
+        assertNotEquals(foreign, log.tag());
+        assertEquals(Optional.empty(), log.since(foreign));
+        assertEquals(Optional.empty(), log.since(tagAt(log, 3)));
+    }
+
+    @Test
+    void testTagsAreAcceptedAsSentInAnETag() {
+        MockEmployeeChangeLog log = new MockEmployeeChangeLog(4);
+        String start = log.tag();
+        change(log, 2);
+
+        for (String sent : List.of(start, "\"" + start + "\"", "W/\"" + start + "\"", " W/\"" + start + "\" ")) {
+            assertEquals(range(1, 2), versions(log.since(sent)), sent);
+        }
+    }
+
+    @Test
+    void testMalformedTagIsRejected() {
+        MockEmployeeChangeLog log = new MockEmployeeChangeLog(4);
+        String epoch = log.tag().substring(0, log.tag().lastIndexOf('-'));
+
+        for (String malformed : List.of("", "W/\"\"", "12", epoch, epoch + "-", epoch + "-x", "-")) {
+            assertThrows(IllegalArgumentException.class, () -> log.since(malformed), malformed);
+        }
+    }
+}
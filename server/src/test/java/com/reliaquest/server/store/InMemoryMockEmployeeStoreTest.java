@@ -0,0 +1,107 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class InMemoryMockEmployeeStoreTest {
+
+    private final InMemoryMockEmployeeStore store = new InMemoryMockEmployeeStore();
+
+    private static MockEmployee employee(String name, int salary) {
+        return new MockEmployee(UUID.randomUUID(), name, salary, 30, "Engineer", "e" + salary + "@company.com");
+    }
+
+    @Test
+    void testFindByIdFollowsAddsReplacementsAndRemoves() {
+        MockEmployee alice = employee("Alice", 1);
+        MockEmployee bob = employee("Bob", 2);
+        store.addAll(List.of(alice, bob));
+
+        assertEquals(Optional.of(alice), store.findById(alice.getId()));
+        assertEquals(Optional.empty(), store.findById(UUID.randomUUID()));
+
+        MockEmployee renamed = new MockEmployee(alice.getId(), "Alicia", 3, 31, "Manager", "alicia@company.com");
+        store.add(renamed);
+
+        assertEquals(2, store.size());
+        assertEquals(Optional.of(renamed), store.findById(alice.getId()));
+        assertEquals(List.of(bob, renamed), store.snapshot());
+        assertEquals(Optional.empty(), store.removeFirstByName("alice"));
+
+        assertEquals(Optional.of(bob), store.removeById(bob.getId()));
+        assertEquals(Optional.empty(), store.findById(bob.getId()));
+        assertEquals(Optional.empty(), store.removeById(bob.getId()));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testRemoveFirstByNameIgnoresCaseAndTakesEarliest() {
+        MockEmployee first = employee("Alice Smith", 1);
+        MockEmployee bob = employee("Bob", 2);
+        MockEmployee second = employee("ALICE SMITH", 3);
+        MockEmployee third = employee("alice smith", 4);
+        store.addAll(List.of(first, bob, second, third));
+
+        assertEquals(Optional.of(first), store.removeFirstByName("aLiCe SmItH"));
+        assertEquals(Optional.of(second), store.removeFirstByName("alice smith"));
+        assertEquals(Optional.of(third), store.removeFirstByName("Alice Smith"));
+        assertEquals(Optional.empty(), store.removeFirstByName("Alice Smith"));
+        assertEquals(List.of(bob), store.snapshot());
+    }
+
+    @Test
+    void testSnapshotIsStableWhileWritersRun() throws Exception {
+        int size = 1_000;
+        for (int i = 0; i < size; i++) {
+            store.add(employee("Employee " + i, i));
+        }
+        List<MockEmployee> before = store.snapshot();
+        List<MockEmployee> copy = new ArrayList<>(before);
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> writes = writer.submit(() -> {
+                for (int i = size; running.get(); i++) {
+                    store.add(employee("Employee " + i, i));
+                    store.removeById(store.snapshot().get(0).getId());
+                }
+            });
+
+            for (int round = 0; round < 200; round++) {
+                List<MockEmployee> snapshot = store.snapshot();
+                HashSet<UUID> ids = new HashSet<>();
+                for (MockEmployee employee : snapshot) {
+                    assertTrue(ids.add(employee.getId()));
+                }
+                assertTrue(ids.size() == size || ids.size() == size + 1, () -> "size " + ids.size());
+            }
+            running.set(false);
+            writes.get(10, TimeUnit.SECONDS);
+        } finally {
+            writer.shutdownNow();
+        }
+
+        assertEquals(copy, before);
+        assertThrows(UnsupportedOperationException.class, () -> before.add(employee("Late", 0)));
+    }
+
+    @Test
+    void testRejectsNullArguments() {
+        assertThrows(NullPointerException.class, () -> store.findById(null));
+        assertThrows(NullPointerException.class, () -> store.add(null));
+        assertThrows(NullPointerException.class, () -> store.removeFirstByName(null));
+        assertThrows(NullPointerException.class, () -> store.removeById(null));
+    }
+}
@@ -0,0 +1,277 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks the mapped store against {@link InMemoryMockEmployeeStore}, which has the same contract and keeps everything
+ * on the heap: after every operation both must hold the same employees in the same order.
+ */
+class MappedMockEmployeeStoreTest {
+
+    private static final String[] NAMES = {"Alice", "alice", "Bob", "BOB", "Carol", "Dave", "Erin"};
+
+    private static final String[] TITLES = {"Engineer", "Manager", "Analyst"};
+
+    @TempDir
+    Path directory;
+
+    private MappedMockEmployeeStore store;
+
+    private InMemoryMockEmployeeStore reference;
+
+    @BeforeEach
+    void setUp() {
+        store = MappedMockEmployeeStore.open(directory);
+        reference = new InMemoryMockEmployeeStore();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    private void reopen() throws Exception {
+        store.close();
+        store = MappedMockEmployeeStore.open(directory);
+    }
+
+    private static MockEmployee employee(UUID id, String name, Integer salary) {
+        return new MockEmployee(id, name, salary, 30, "Engineer", "e" + salary + "@company.com");
+    }
+
+    private static MockEmployee randomEmployee(Random random) {
+        return new MockEmployee(
+                UUID.randomUUID(),
+                random.nextInt(20) == 0 ? null : NAMES[random.nextInt(NAMES.length)],
+                random.nextInt(10) == 0 ? null : random.nextInt(200_000),
+                random.nextInt(10) == 0 ? null : 18 + random.nextInt(50),
+                random.nextInt(10) == 0 ? null : TITLES[random.nextInt(TITLES.length)],
+                "user" + random.nextInt(1000) + "@company.com");
+    }
+
+    private void assertSameContents() {
+        assertEquals(reference.snapshot(), store.snapshot());
+        assertEquals(reference.size(), store.size());
+    }
+
+    private static List<MockEmployee> walk(MockEmployeeStore source, int limit) {
+        List<MockEmployee> walked = new ArrayList<>();
+        long cursor = 0;
+        while (true) {
+            MockEmployeePage page = source.page(cursor, limit);
+            assertTrue(page.employees().size() <= limit);
+            walked.addAll(page.employees());
+            if (!page.hasMore()) {
+                return walked;
+            }
+            cursor = page.nextCursor();
+        }
+    }
+
+    @Test
+    void testRandomOperationsMatchInMemoryStore() throws Exception {
+        Random random = new Random(42);
+        List<MockEmployee> removed = new ArrayList<>();
+        for (int step = 0; step < 12_000; step++) {
+            int operation = random.nextInt(100);
+            if (operation < 35) {
+                MockEmployee employee = randomEmployee(random);
+                store.add(employee);
+                reference.add(employee);
+            } else if (operation < 40) {
+                List<MockEmployee> batch = new ArrayList<>();
+                for (int i = random.nextInt(50); i >= 0; i--) {
+                    batch.add(randomEmployee(random));
+                }
+                store.addAll(batch);
+                reference.addAll(batch);
+            } else if (operation < 60) {
+                String name = NAMES[random.nextInt(NAMES.length)];
+                Optional<MockEmployee> expected = reference.removeFirstByName(name);
+                assertEquals(expected, store.removeFirstByName(name));
+                expected.ifPresent(removed::add);
+            } else if (operation < 85) {
+                List<MockEmployee> live = reference.snapshot();
+                UUID id = live.isEmpty() || random.nextInt(10) == 0
+                        ? UUID.randomUUID()
+                        : live.get(random.nextInt(live.size())).getId();
+                Optional<MockEmployee> expected = reference.removeById(id);
+                assertEquals(expected, store.removeById(id));
+                expected.ifPresent(removed::add);
+            } else if (operation < 90 && !removed.isEmpty()) {
+                MockEmployee readded = removed.remove(random.nextInt(removed.size())).toBuilder()
+                        .salary(random.nextInt(200_000))
+                        .build();
+                store.add(readded);
+                reference.add(readded);
+            } else if (operation < 97) {
+                List<MockEmployee> live = reference.snapshot();
+                UUID id = live.isEmpty()
+                        ? UUID.randomUUID()
+                        : live.get(random.nextInt(live.size())).getId();
+                assertEquals(reference.findById(id), store.findById(id));
+            } else if (operation < 99) {
+                reopen();
+            } else {
+                store.compact();
+            }
+            if (step % 500 == 0) {
+                assertSameContents();
+                assertEquals(walk(reference, 37), walk(store, 37));
+            }
+        }
+        assertSameContents();
+        reopen();
+        assertSameContents();
+        for (MockEmployee employee : removed) {
+            assertEquals(reference.findById(employee.getId()), store.findById(employee.getId()));
+        }
+    }
+
+    @Test
+    void testReopenKeepsEmployeesDeletesAndNameIndex() throws Exception {
+        MockEmployee alice = employee(UUID.randomUUID(), "Alice", 100);
+        MockEmployee bob = employee(UUID.randomUUID(), "Bob", 200);
+        MockEmployee otherAlice = employee(UUID.randomUUID(), "ALICE", 300);
+        MockEmployee nameless = new MockEmployee(UUID.randomUUID(), null, null, null, null, null);
+        store.addAll(List.of(alice, bob, otherAlice, nameless));
+        store.removeById(bob.getId());
+
+        reopen();
+
+        assertEquals(List.of(alice, otherAlice, nameless), store.snapshot());
+        assertEquals(Optional.empty(), store.findById(bob.getId()));
+        assertEquals(Optional.of(nameless), store.findById(nameless.getId()));
+        assertEquals(Optional.of(alice), store.removeFirstByName("alice"));
+        assertEquals(Optional.of(otherAlice), store.removeFirstByName("alice"));
+        assertEquals(Optional.empty(), store.removeFirstByName("alice"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testRemoveFirstByNameWithCollidingHashes() throws Exception {
+        // Case-folded, "sam 1~" and "sam 2_" share a String hash code, so they share one chain in the name index.
+        assertEquals("sam 1~".hashCode(), "sam 2_".hashCode());
+        MockEmployee first = employee(UUID.randomUUID(), "Sam 1~", 100);
+        MockEmployee colliding = employee(UUID.randomUUID(), "Sam 2_", 200);
+        MockEmployee second = employee(UUID.randomUUID(), "SAM 1~", 300);
+        store.addAll(List.of(first, colliding, second));
+
+        assertEquals(Optional.of(colliding), store.removeFirstByName("sam 2_"));
+        reopen();
+        assertEquals(Optional.of(first), store.removeFirstByName("Sam 1~"));
+        assertEquals(Optional.empty(), store.removeFirstByName("Sam 2_"));
+        assertEquals(Optional.of(second), store.removeFirstByName("sam 1~"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testReaddingDeletedUuidReplacesIt() throws Exception {
+        UUID id = UUID.randomUUID();
+        store.add(employee(id, "Alice", 100));
+        store.add(employee(UUID.randomUUID(), "Bob", 200));
+        store.removeById(id);
+        MockEmployee readded = employee(id, "Alice", 150);
+        store.add(readded);
+        // Added again while live: the older record is replaced, not duplicated.
+        MockEmployee replaced = employee(id, "Alice", 175);
+        store.add(replaced);
+
+        assertEquals(Optional.of(replaced), store.findById(id));
+        assertEquals(2, store.size());
+        reopen();
+        assertEquals(Optional.of(replaced), store.findById(id));
+        assertEquals(List.of("Bob", "Alice"), names(store.snapshot()));
+        store.compact();
+        assertEquals(Optional.of(replaced), store.findById(id));
+        assertEquals(Optional.of(replaced), store.removeFirstByName("alice"));
+        assertEquals(Optional.empty(), store.findById(id));
+    }
+
+    @Test
+    void testCompactionMidWalkKeepsPagingValid() throws Exception {
+        List<MockEmployee> added = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            added.add(employee(UUID.randomUUID(), "Emp" + i, i));
+        }
+        store.addAll(added);
+        Set<UUID> known = new HashSet<>();
+        added.forEach(employee -> known.add(employee.getId()));
+
+        List<MockEmployee> walked = new ArrayList<>();
+        long cursor = 0;
+        int pages = 0;
+        while (true) {
+            MockEmployeePage page = store.page(cursor, 100);
+            walked.addAll(page.employees());
+            if (++pages == 10) {
+                // Deleting every other employee crosses the tombstone threshold and compacts the records.
+                for (int i = 0; i < added.size(); i += 2) {
+                    store.removeById(added.get(i).getId());
+                }
+                assertEquals(1, generations());
+            }
+            if (!page.hasMore()) {
+                break;
+            }
+            cursor = page.nextCursor();
+        }
+
+        assertTrue(pages < 100);
+        for (MockEmployee employee : walked) {
+            assertTrue(known.contains(employee.getId()));
+        }
+        assertEquals(2_500, store.size());
+        assertEquals(walk(store, 100), store.snapshot());
+    }
+
+    @Test
+    void testSnapshotViewSurvivesCompaction() throws Exception {
+        for (int i = 0; i < 3_000; i++) {
+            store.add(employee(UUID.randomUUID(), "Emp" + i, i));
+        }
+        List<MockEmployee> before = store.snapshot();
+        List<MockEmployee> copied = List.copyOf(before);
+
+        for (int i = 0; i < 3_000; i += 2) {
+            store.removeById(copied.get(i).getId());
+        }
+        store.compact();
+        store.add(employee(UUID.randomUUID(), "Late", 9_999));
+
+        assertEquals(copied, before);
+        assertEquals(1_501, store.snapshot().size());
+        assertEquals("Emp1", store.snapshot().get(0).getName());
+        reopen();
+        assertEquals(1_501, store.snapshot().size());
+        assertEquals(1, generations());
+    }
+
+    private static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+
+    /** Stale string files of earlier generations are removed once a compaction or reopen has moved past them. */
+    private long generations() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("strings-"))
+                    .count();
+        }
+    }
+}
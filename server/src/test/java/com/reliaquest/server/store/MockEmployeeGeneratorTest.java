@@ -0,0 +1,51 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    private static final int COUNT = 5 * MockEmployeeGenerator.CHUNK_SIZE + 17;
+
+    private static List<MockEmployee> generateOn(int threads, long seed) throws Exception {
+        // a parallel stream runs its tasks in the pool it was started from
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> new MockEmployeeGenerator(seed, Locale.ROOT).generate(COUNT))
+                    .get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSameSeedGivesSameRosterOnAnyNumberOfThreads() throws Exception {
+        List<MockEmployee> single = generateOn(1, 42);
+        List<MockEmployee> parallel = generateOn(8, 42);
+
+        assertEquals(COUNT, single.size());
+        assertEquals(single, parallel);
+        assertNotEquals(single, generateOn(8, 43));
+    }
+
+    @Test
+    void testIdsAndEmailsAreUnique() {
+        List<MockEmployee> employees = new MockEmployeeGenerator(7, Locale.ROOT).generate(COUNT);
+
+        assertEquals(
+                COUNT, new HashSet<>(employees.stream().map(MockEmployee::getId).toList()).size());
+        assertEquals(
+                COUNT,
+                new HashSet<>(employees.stream().map(MockEmployee::getEmail).toList()).size());
+        for (MockEmployee employee : employees) {
+            assertEquals(4, employee.getId().version());
+            assertTrue(employee.getEmail().endsWith("@company.com"), employee.getEmail());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRoundTripKeepsNullFields() {
+        List<MockEmployee> employees = List.of(
+                new MockEmployee(UUID.randomUUID(), "Alice Smith", 100_000, 30, "Engineer", "alice@company.com"),
+                new MockEmployee(UUID.randomUUID(), null, null, null, null, null),
+                new MockEmployee(UUID.randomUUID(), "Zoë Ünal", null, 45, null, "zoe@company.com"),
+                new MockEmployee(UUID.randomUUID(), "", 1, null, "Engineer", null));
+        MockEmployeeSnapshotFile file = new MockEmployeeSnapshotFile(directory.resolve("nested/roster.bin"));
+
+        file.write(42, Locale.US, employees);
+
+        assertEquals(Optional.of(employees), file.read(42, Locale.US, employees.size()));
+    }
+
+    @Test
+    void testFileForOtherInputsIsIgnored() {
+        List<MockEmployee> employees = new MockEmployeeGenerator(42, Locale.US).generate(100);
+        MockEmployeeSnapshotFile file = new MockEmployeeSnapshotFile(directory.resolve("roster.bin"));
+        file.write(42, Locale.US, employees);
+
+        assertEquals(Optional.empty(), file.read(43, Locale.US, 100));
+        assertEquals(Optional.empty(), file.read(42, Locale.GERMANY, 100));
+        assertEquals(Optional.empty(), file.read(42, Locale.US, 101));
+        assertEquals(Optional.of(employees), file.read(42, Locale.US, 100));
+    }
+
+    @Test
+    void testMissingOrForeignFileIsIgnored() throws Exception {
+        MockEmployeeSnapshotFile file = new MockEmployeeSnapshotFile(directory.resolve("roster.bin"));
+        assertEquals(Optional.empty(), file.read(42, Locale.US, 1));
+
+        Files.writeString(file.getPath(), "not a roster");
+        assertEquals(Optional.empty(), file.read(42, Locale.US, 1));
+    }
+}
@@ -0,0 +1,196 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ClientRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final int MAX_COUNT = (1 << 20) - 1;
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    private ClientRateLimiter limiter(RateLimitAlgorithm algorithm, int limit, long periodNanos, long idleNanos) {
+        return new ClientRateLimiter(
+                algorithm, limit, Duration.ofNanos(periodNanos), Duration.ofNanos(idleNanos), clock::get);
+    }
+
+    private void advance(long nanos) {
+        clock.addAndGet(nanos);
+    }
+
+    private static void assertAdmitted(int remaining, long resetNanos, ClientRateLimiter.Decision decision) {
+        assertEquals(new ClientRateLimiter.Decision(true, decision.limit(), remaining, resetNanos, 0), decision);
+    }
+
+    private static void assertRejected(long resetNanos, long retryAfterNanos, ClientRateLimiter.Decision decision) {
+        assertEquals(new ClientRateLimiter.Decision(false, decision.limit(), 0, resetNanos, retryAfterNanos), decision);
+    }
+
+    @Test
+    void testRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> limiter(RateLimitAlgorithm.TOKEN_BUCKET, 0, SECOND, 0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> limiter(RateLimitAlgorithm.SLIDING_WINDOW, MAX_COUNT + 1, SECOND, 0));
+        assertThrows(IllegalArgumentException.class, () -> limiter(RateLimitAlgorithm.TOKEN_BUCKET, 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> limiter(RateLimitAlgorithm.SLIDING_WINDOW, 1, SECOND, -1));
+    }
+
+    @Test
+    void testTokenBucketAdmitsBurstAndRefillsEvenly() {
+        // nanoTime may have any origin, so run across its overflow
+        clock.set(Long.MAX_VALUE - 5 * SECOND);
+        ClientRateLimiter limiter = limiter(RateLimitAlgorithm.TOKEN_BUCKET, 5, 10 * SECOND, 60 * SECOND);
+
+        for (int i = 1; i <= 5; i++) {
+            assertAdmitted(5 - i, 2 * i * SECOND, limiter.acquire("a"));
+        }
+        assertRejected(10 * SECOND, 2 * SECOND, limiter.acquire("a"));
+        assertAdmitted(4, 2 * SECOND, limiter.acquire("b"));
+
+        advance(1_500_000_000L);
+        assertRejected(8_500_000_000L, 500_000_000L, limiter.acquire("a"));
+        advance(500_000_000L - 1);
+        assertRejected(8 * SECOND + 1, 1, limiter.acquire("a"));
+        advance(1);
+        assertAdmitted(0, 10 * SECOND, limiter.acquire("a"));
+
+        advance(10 * SECOND);
+        assertAdmitted(4, 2 * SECOND, limiter.acquire("a"));
+        assertEquals(5, limiter.acquire("a").limit());
+    }
+
+    @Test
+    void testSlidingWindowWeighsPreviousWindowAndRollsOver() {
+        ClientRateLimiter limiter = limiter(RateLimitAlgorithm.SLIDING_WINDOW, 4, 10 * SECOND, 60 * SECOND);
+
+        for (int i = 1; i <= 4; i++) {
+            assertAdmitted(4 - i, 20 * SECOND, limiter.acquire("a"));
+        }
+        // full until the previous window's weight, rounded down, drops below the limit just after the roll
+        assertRejected(20 * SECOND, 10 * SECOND + 1, limiter.acquire("a"));
+
+        advance(10 * SECOND);
+        assertRejected(10 * SECOND, 1, limiter.acquire("a"));
+        advance(1);
+        assertAdmitted(0, 20 * SECOND - 1, limiter.acquire("a"));
+
+        // halfway through: 4 * 0.5 from the previous window plus 1 in this one
+        advance(5 * SECOND - 1);
+        assertAdmitted(0, 15 * SECOND, limiter.acquire("a"));
+        assertRejected(15 * SECOND, 1, limiter.acquire("a"));
+        advance(1);
+        assertAdmitted(0, 15 * SECOND - 1, limiter.acquire("a"));
+
+        // the next window only carries the 3 requests of this one
+        advance(10 * SECOND - 1);
+        assertAdmitted(2, 15 * SECOND, limiter.acquire("a"));
+
+        // two windows on, nothing is carried
+        advance(20 * SECOND);
+        assertAdmitted(3, 15 * SECOND, limiter.acquire("a"));
+    }
+
+    @Test
+    void testSlidingWindowCountsDoNotSpillAtMaximumLimit() {
+        ClientRateLimiter limiter = limiter(RateLimitAlgorithm.SLIDING_WINDOW, MAX_COUNT, SECOND, 0);
+
+        for (int i = 0; i < MAX_COUNT; i++) {
+            limiter.acquire("a");
+        }
+        assertFalse(limiter.acquire("a").allowed());
+
+        advance(SECOND + SECOND / 2);
+        assertAdmitted(MAX_COUNT - MAX_COUNT / 2 - 1, SECOND + SECOND / 2, limiter.acquire("a"));
+    }
+
+    @Test
+    void testRetryAfterIsTheEarliestAdmission() {
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            Random random = new Random(7);
+            for (int trial = 0; trial < 200; trial++) {
+                int limit = 1 + random.nextInt(20);
+                long period = SECOND + random.nextInt(10_000) * 1_000_000L;
+                ClientRateLimiter limiter = limiter(algorithm, limit, period, 0);
+                for (int request = 0; request < 100; request++) {
+                    advance(random.nextLong(2 * period / limit));
+                    ClientRateLimiter.Decision decision = limiter.acquire("a");
+                    if (decision.allowed()) {
+                        continue;
+                    }
+                    long retryAfter = decision.retryAfterNanos();
+                    assertTrue(retryAfter > 0 && decision.resetNanos() >= retryAfter, algorithm + " " + decision);
+                    advance(retryAfter - 1);
+                    assertFalse(limiter.acquire("a").allowed(), algorithm + " admitted before Retry-After");
+                    advance(1);
+                    assertTrue(limiter.acquire("a").allowed(), algorithm + " rejected at Retry-After");
+                }
+            }
+        }
+    }
+
+    private static List<String> exhaust(ClientRateLimiter limiter, int clients) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            String name = "client-" + i;
+            names.add(name);
+            while (limiter.acquire(name).allowed()) {}
+        }
+        return names;
+    }
+
+    /** One request a second from another client, so every step that is due sweeps one stripe. */
+    private void drive(ClientRateLimiter limiter, int seconds) {
+        for (int i = 0; i < seconds; i++) {
+            advance(SECOND);
+            limiter.acquire("driver");
+        }
+    }
+
+    @Test
+    void testTokenBucketEvictsOnlyFullBuckets() {
+        // a sweep every second, so 15 of the 16 stripes are walked before the buckets are full again
+        ClientRateLimiter limiter = limiter(RateLimitAlgorithm.TOKEN_BUCKET, 4, 16 * SECOND, 0);
+        List<String> clients = exhaust(limiter, 64);
+
+        drive(limiter, 15);
+        assertEquals(0, limiter.evictions());
+        assertEquals(65, limiter.clients());
+        for (String client : clients) {
+            // 15 of 16 seconds refilled: three tokens back, of which this takes one; a new bucket would have four
+            assertAdmitted(2, 5 * SECOND, limiter.acquire(client));
+        }
+
+        drive(limiter, 32);
+        assertEquals(64, limiter.evictions());
+        assertEquals(1, limiter.clients());
+    }
+
+    @Test
+    void testSlidingWindowEvictsOnlyWindowsThatNoLongerCount() {
+        ClientRateLimiter limiter = limiter(RateLimitAlgorithm.SLIDING_WINDOW, 4, 16 * SECOND, 0);
+        List<String> clients = exhaust(limiter, 64);
+
+        // every stripe is walked while the full window still weighs on the next one
+        drive(limiter, 20);
+        assertEquals(0, limiter.evictions());
+        assertEquals(65, limiter.clients());
+        for (String client : clients) {
+            // 4 * 12 / 16 carried over leaves one request; a new window would have four
+            assertAdmitted(0, 28 * SECOND, limiter.acquire(client));
+        }
+
+        drive(limiter, 50);
+        assertEquals(64, limiter.evictions());
+        assertEquals(1, limiter.clients());
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RandomRequestLimitInterceptor interceptor = new RandomRequestLimitInterceptor(
+            new ClientRateLimiter(
+                    RateLimitAlgorithm.TOKEN_BUCKET, 2, Duration.ofSeconds(10), Duration.ofMinutes(1), clock::get),
+            "X-Client-Id",
+            meterRegistry);
+
+    private static MockHttpServletRequest request(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setRemoteAddr("10.0.0.1");
+        if (client != null) {
+            request.addHeader("X-Client-Id", client);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse handle(MockHttpServletRequest request, boolean admitted) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertEquals(admitted, interceptor.preHandle(request, response, new Object()));
+        return response;
+    }
+
+    private static void assertLimitHeaders(String remaining, String reset, MockHttpServletResponse response) {
+        assertEquals("2", response.getHeader(RandomRequestLimitInterceptor.LIMIT_HEADER));
+        assertEquals(remaining, response.getHeader(RandomRequestLimitInterceptor.REMAINING_HEADER));
+        assertEquals(reset, response.getHeader(RandomRequestLimitInterceptor.RESET_HEADER));
+    }
+
+    private double throttled() {
+        return meterRegistry.get("mock.requests.throttled").counter().count();
+    }
+
+    @Test
+    void testAdmittedResponsesCarryBudgetHeaders() {
+        MockHttpServletResponse first = handle(request("a"), true);
+        assertLimitHeaders("1", "5", first);
+        assertNull(first.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(200, first.getStatus());
+
+        assertLimitHeaders("0", "10", handle(request("a"), true));
+        assertEquals(0, throttled());
+    }
+
+    @Test
+    void testRejectionSetsRetryAfterRoundedUpToSeconds() {
+        handle(request("a"), true);
+        handle(request("a"), true);
+
+        MockHttpServletResponse rejected = handle(request("a"), false);
+        assertEquals(429, rejected.getStatus());
+        assertLimitHeaders("0", "10", rejected);
+        assertEquals("5", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+
+        clock.addAndGet(4 * SECOND + SECOND / 2);
+        MockHttpServletResponse soon = handle(request("a"), false);
+        assertLimitHeaders("0", "6", soon);
+        assertEquals("1", soon.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(2, throttled());
+
+        clock.addAndGet(SECOND / 2);
+        assertLimitHeaders("0", "10", handle(request("a"), true));
+    }
+
+    @Test
+    void testClientsAreToldApartByHeaderThenRemoteAddress() {
+        handle(request("a"), true);
+        handle(request("a"), true);
+        handle(request("a"), false);
+
+        assertLimitHeaders("1", "5", handle(request("b"), true));
+        assertLimitHeaders("1", "5", handle(request(null), true));
+        assertLimitHeaders("0", "10", handle(request(""), true));
+        handle(request(null), false);
+    }
+
+    @Test
+    void testAsyncDispatchIsNotCountedAgain() {
+        handle(request("a"), true);
+        handle(request("a"), true);
+
+        MockHttpServletRequest redispatch = request("a");
+        redispatch.setDispatcherType(DispatcherType.ASYNC);
+        MockHttpServletResponse response = handle(redispatch, true);
+        assertNull(response.getHeader(RandomRequestLimitInterceptor.LIMIT_HEADER));
+        assertEquals(0, throttled());
+    }
+}